@@ -32,6 +32,7 @@ public interface IFarmListener {
 	 * Called after the stack of collected items has been returned by the farm logic, but before it is added to the farm's pending queue.
 	 *
 	 * @param collected Collection of collected stacks. May be manipulated. Ensure removal of stacks with 0 or less items!
+	 *                  The farm reuses the collection, it is only valid during this call. Copy it to keep the stacks.
 	 */
 	void hasCollected(Collection<ItemStack> collected, IFarmLogic logic);
 
@@ -42,6 +43,8 @@ public interface IFarmListener {
 
 	/**
 	 * Called after the stack of harvested crops has been returned by the farm logic, but before it is added to the farm's pending queue.
+	 *
+	 * @param harvested Collection of harvested crops. The farm reuses the collection, it is only valid during this call. Copy it to keep the crops.
 	 */
 	void hasScheduledHarvest(Collection<ICrop> harvested, IFarmLogic logic, BlockPos pos, FarmDirection direction, int extent);
 
@@ -30,6 +30,7 @@ import forestry.api.apiculture.IBeeModifier;
 import forestry.api.core.INbtReadable;
 import forestry.api.core.INbtWritable;
 import forestry.api.genetics.IFlowerProvider;
+import forestry.apiculture.flowers.FlowerRegistry;
 import forestry.core.network.DataInputStreamForestry;
 import forestry.core.network.DataOutputStreamForestry;
 import forestry.core.network.IStreamable;
@@ -78,7 +79,8 @@ public class HasFlowersCache implements INbtWritable, INbtReadable, IStreamable
 		}
 
 		if (cooldown <= 0) {
-			List<BlockPos> newFlowerCoords = FlowerManager.flowerRegistry.getAcceptedFlowerCoordinates(beeHousing, queen, flowerType, 5);
+			FlowerRegistry flowerRegistry = (FlowerRegistry) FlowerManager.flowerRegistry;
+			List<BlockPos> newFlowerCoords = flowerRegistry.getSharedFlowerCoordinates(beeHousing, queen, flowerType, 5);
 			cooldown = PluginApiculture.ticksPerBeeWorkCycle;
 			if (!flowerCoords.equals(newFlowerCoords)) {
 				flowerCoords = newFlowerCoords;
@@ -30,12 +30,15 @@ import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.biome.Biome;
+import net.minecraft.world.chunk.Chunk;
 import net.minecraft.world.chunk.IChunkGenerator;
 import net.minecraft.world.storage.loot.LootTableList;
 
 import net.minecraftforge.client.event.TextureStitchEvent;
 import net.minecraftforge.common.BiomeDictionary;
 import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fml.common.FMLCommonHandler;
@@ -839,6 +842,17 @@ public class PluginApiculture extends BlankForestryPlugin {
 		return super.processIMCMessage(message);
 	}
 
+	@SubscribeEvent
+	public void onChunkUnload(ChunkEvent.Unload event) {
+		Chunk chunk = event.getChunk();
+		((FlowerRegistry) FlowerManager.flowerRegistry).onChunkUnload(event.getWorld(), chunk.xPosition, chunk.zPosition);
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event) {
+		((FlowerRegistry) FlowerManager.flowerRegistry).onWorldUnload(event.getWorld());
+	}
+
 	@SubscribeEvent
 	@SideOnly(Side.CLIENT)
 	public void textureHook(TextureStitchEvent.Pre event) {
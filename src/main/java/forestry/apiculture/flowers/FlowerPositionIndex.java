@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.apiculture.flowers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+
+import forestry.core.utils.WorldEventListenerAdapter;
+
+/**
+ * Server-side index of the flower positions in one world, by flower type and chunk section.
+ * A section is scanned the first time it is queried for a flower type and is kept up to date from block updates after that.
+ * Blocks set without notifying listeners are not seen, so sections are scanned again once they are older than {@link #SECTION_EXPIRY_TICKS}.
+ * Only flowers accepted by block or block state are indexed, flower types with custom rules are not handled here.
+ */
+final class FlowerPositionIndex extends WorldEventListenerAdapter {
+	private static final int SECTION_EXPIRY_TICKS = 1200;
+
+	private final World world;
+	private final FlowerRegistry flowerRegistry;
+	private final Map<String, Map<Long, IndexedSection>> flowersBySection = new HashMap<>();
+
+	public FlowerPositionIndex(World world, FlowerRegistry flowerRegistry) {
+		this.world = world;
+		this.flowerRegistry = flowerRegistry;
+	}
+
+	/**
+	 * @return the indexed flowers between min and max, nearest to center first.
+	 */
+	public List<BlockPos> getFlowers(String flowerType, BlockPos min, final BlockPos center, BlockPos max, int maxFlowers) {
+		Map<Long, IndexedSection> sections = flowersBySection.get(flowerType);
+		if (sections == null) {
+			sections = new HashMap<>();
+			flowersBySection.put(flowerType, sections);
+		}
+
+		int minSectionY = Math.max(0, min.getY() >> 4);
+		int maxSectionY = Math.min(15, max.getY() >> 4);
+
+		long worldTime = world.getTotalWorldTime();
+		List<BlockPos> flowers = new ArrayList<>();
+		for (int sectionX = min.getX() >> 4; sectionX <= max.getX() >> 4; sectionX++) {
+			for (int sectionZ = min.getZ() >> 4; sectionZ <= max.getZ() >> 4; sectionZ++) {
+				if (!world.isBlockLoaded(new BlockPos(sectionX << 4, 0, sectionZ << 4))) {
+					continue;
+				}
+
+				for (int sectionY = minSectionY; sectionY <= maxSectionY; sectionY++) {
+					long key = getSectionKey(sectionX, sectionY, sectionZ);
+					IndexedSection section = sections.get(key);
+					if (section == null || worldTime - section.scanTime > SECTION_EXPIRY_TICKS) {
+						section = new IndexedSection(scanSection(flowerType, sectionX, sectionY, sectionZ), worldTime);
+						sections.put(key, section);
+					}
+
+					for (BlockPos flowerPos : section.flowers) {
+						if (isInRange(flowerPos, min, max)) {
+							flowers.add(flowerPos);
+						}
+					}
+				}
+			}
+		}
+
+		if (flowers.size() > 1) {
+			Collections.sort(flowers, new Comparator<BlockPos>() {
+				@Override
+				public int compare(BlockPos pos1, BlockPos pos2) {
+					return Double.compare(pos1.distanceSq(center), pos2.distanceSq(center));
+				}
+			});
+		}
+
+		if (flowers.size() > maxFlowers) {
+			return new ArrayList<>(flowers.subList(0, maxFlowers));
+		}
+		return flowers;
+	}
+
+	private Set<BlockPos> scanSection(String flowerType, int sectionX, int sectionY, int sectionZ) {
+		Set<BlockPos> flowers = new HashSet<>();
+
+		Chunk chunk = world.getChunkFromChunkCoords(sectionX, sectionZ);
+		ExtendedBlockStorage storage = chunk.getBlockStorageArray()[sectionY];
+		if (storage == null || storage.isEmpty()) {
+			return flowers;
+		}
+
+		for (int y = 0; y < 16; y++) {
+			for (int z = 0; z < 16; z++) {
+				for (int x = 0; x < 16; x++) {
+					IBlockState blockState = storage.get(x, y, z);
+					if (flowerRegistry.isIndexedFlower(flowerType, blockState)) {
+						flowers.add(new BlockPos((sectionX << 4) + x, (sectionY << 4) + y, (sectionZ << 4) + z));
+					}
+				}
+			}
+		}
+
+		return flowers;
+	}
+
+	@Override
+	public void notifyBlockUpdate(World world, BlockPos pos, IBlockState oldState, IBlockState newState, int flags) {
+		if (oldState == newState || pos.getY() < 0 || pos.getY() > 255) {
+			return;
+		}
+
+		long key = getSectionKey(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4);
+		for (Map.Entry<String, Map<Long, IndexedSection>> entry : flowersBySection.entrySet()) {
+			IndexedSection section = entry.getValue().get(key);
+			if (section != null) {
+				if (flowerRegistry.isIndexedFlower(entry.getKey(), newState)) {
+					section.flowers.add(pos.toImmutable());
+				} else {
+					section.flowers.remove(pos);
+				}
+			}
+		}
+	}
+
+	public void onChunkUnload(int chunkX, int chunkZ) {
+		for (Map<Long, IndexedSection> sections : flowersBySection.values()) {
+			for (int sectionY = 0; sectionY < 16; sectionY++) {
+				sections.remove(getSectionKey(chunkX, sectionY, chunkZ));
+			}
+		}
+	}
+
+	public void clear() {
+		flowersBySection.clear();
+	}
+
+	private static boolean isInRange(BlockPos pos, BlockPos min, BlockPos max) {
+		return pos.getX() >= min.getX() && pos.getX() <= max.getX() && pos.getY() >= min.getY() && pos.getY() <= max.getY() && pos.getZ() >= min.getZ() && pos.getZ() <= max.getZ();
+	}
+
+	static long getSectionKey(int sectionX, int sectionY, int sectionZ) {
+		return ((long) sectionX & 0x3FFFFFF) << 30 | ((long) sectionZ & 0x3FFFFFF) << 4 | (sectionY & 0xF);
+	}
+
+	private static class IndexedSection {
+		private final Set<BlockPos> flowers;
+		private final long scanTime;
+
+		public IndexedSection(Set<BlockPos> flowers, long scanTime) {
+			this.flowers = flowers;
+			this.scanTime = scanTime;
+		}
+	}
+}
@@ -66,6 +66,8 @@ public final class FlowerRegistry implements IFlowerRegistry, IFlowerGrowthHelpe
 	private final ArrayListMultimap<String, IFlowerGrowthRule> growthRules;
 	private final Map<String, TreeMap<Double, Flower>> chances;
 
+	private final Map<World, WorldFlowerCaches> worldFlowerCaches = new HashMap<>();
+
 	public FlowerRegistry() {
 		this.registeredRules = HashMultimap.create();
 		this.acceptableBlocks = HashMultimap.create();
@@ -86,6 +88,7 @@ public final class FlowerRegistry implements IFlowerRegistry, IFlowerGrowthHelpe
 
 			this.acceptableBlocks.get(flowerType).add(block);
 		}
+		clearFlowerIndexes();
 	}
 
 	@Override
@@ -97,6 +100,7 @@ public final class FlowerRegistry implements IFlowerRegistry, IFlowerGrowthHelpe
 
 			this.acceptableBlockStates.get(flowerType).add(blockState);
 		}
+		clearFlowerIndexes();
 	}
 
 	@Override
@@ -143,6 +147,7 @@ public final class FlowerRegistry implements IFlowerRegistry, IFlowerGrowthHelpe
 				this.chances.remove(flowerType);
 			}
 		}
+		clearFlowerIndexes();
 	}
 
 	private static Vec3i getArea(IBeeGenome genome, IBeeModifier beeModifier) {
@@ -154,9 +159,6 @@ public final class FlowerRegistry implements IFlowerRegistry, IFlowerGrowthHelpe
 	@Override
 	@Nonnull
 	public List<BlockPos> getAcceptedFlowerCoordinates(IBeeHousing beeHousing, IBee bee, String flowerType, int maxFlowers) {
-		Set<IFlowerAcceptableRule> acceptableRules = this.registeredRules.get(flowerType);
-		Set<IBlockState> acceptedBlockStates = this.acceptableBlockStates.get(flowerType);
-		Set<Block> acceptedBlocks = this.acceptableBlocks.get(flowerType);
 		World world = beeHousing.getWorldObj();
 
 		IBeeModifier beeModifier = BeeManager.beeRoot.createBeeHousingModifier(beeHousing);
@@ -165,8 +167,41 @@ public final class FlowerRegistry implements IFlowerRegistry, IFlowerGrowthHelpe
 		BlockPos minPos = beeHousing.getCoordinates().add(-area.getX() / 2, -area.getY() / 2, -area.getZ() / 2);
 		BlockPos maxPos = minPos.add(area);
 
+		return getAcceptedFlowerCoordinates(world, flowerType, minPos, beeHousing.getCoordinates(), maxPos, maxFlowers);
+	}
+
+	/**
+	 * Like {@link #getAcceptedFlowerCoordinates(IBeeHousing, IBee, String, int)}, but on the server the territory scan
+	 * is shared with other housings nearby that look for the same flower type.
+	 */
+	@Nonnull
+	public List<BlockPos> getSharedFlowerCoordinates(IBeeHousing beeHousing, IBee bee, String flowerType, int maxFlowers) {
+		World world = beeHousing.getWorldObj();
+		if (world.isRemote) {
+			return getAcceptedFlowerCoordinates(beeHousing, bee, flowerType, maxFlowers);
+		}
+
+		IBeeModifier beeModifier = BeeManager.beeRoot.createBeeHousingModifier(beeHousing);
+
+		Vec3i area = getArea(bee.getGenome(), beeModifier);
+		BlockPos minPos = beeHousing.getCoordinates().add(-area.getX() / 2, -area.getY() / 2, -area.getZ() / 2);
+		BlockPos maxPos = minPos.add(area);
+
+		return getWorldCaches(world).territoryCache.getFlowers(flowerType, minPos, beeHousing.getCoordinates(), maxPos, maxFlowers);
+	}
+
+	@Nonnull
+	List<BlockPos> getAcceptedFlowerCoordinates(World world, String flowerType, BlockPos minPos, BlockPos center, BlockPos maxPos, int maxFlowers) {
+		Set<IFlowerAcceptableRule> acceptableRules = this.registeredRules.get(flowerType);
+		Set<IBlockState> acceptedBlockStates = this.acceptableBlockStates.get(flowerType);
+		Set<Block> acceptedBlocks = this.acceptableBlocks.get(flowerType);
+
+		if (!world.isRemote && acceptableRules.isEmpty()) {
+			return getWorldCaches(world).positionIndex.getFlowers(flowerType, minPos, center, maxPos, maxFlowers);
+		}
+
 		List<BlockPos> flowerCoords = new ArrayList<>();
-		for (BlockPos.MutableBlockPos posBlock : VectUtil.getAllInBoxFromCenterMutable(world, minPos, beeHousing.getCoordinates(), maxPos)) {
+		for (BlockPos.MutableBlockPos posBlock : VectUtil.getAllInBoxFromCenterMutable(world, minPos, center, maxPos)) {
 			IBlockState blockState = world.getBlockState(posBlock);
 			if (blockState.getBlock().isAir(blockState, world, posBlock)) {
 				continue;
@@ -213,6 +248,63 @@ public final class FlowerRegistry implements IFlowerRegistry, IFlowerGrowthHelpe
 		return acceptedBlocks.contains(block) || acceptedBlockStates.contains(blockState);
 	}
 
+	/**
+	 * @return true if the block state is accepted as a flower by block or block state, ignoring custom rules.
+	 */
+	boolean isIndexedFlower(String flowerType, IBlockState blockState) {
+		return isAcceptedFlower(blockState, this.acceptableBlocks.get(flowerType), this.acceptableBlockStates.get(flowerType));
+	}
+
+	/**
+	 * @return true if a block changing from oldState to newState can change which flowers of this type exist.
+	 */
+	boolean mayAffectFlowers(String flowerType, IBlockState oldState, IBlockState newState) {
+		return !this.registeredRules.get(flowerType).isEmpty() || isIndexedFlower(flowerType, oldState) || isIndexedFlower(flowerType, newState);
+	}
+
+	private WorldFlowerCaches getWorldCaches(World world) {
+		WorldFlowerCaches worldCaches = worldFlowerCaches.get(world);
+		if (worldCaches == null) {
+			worldCaches = new WorldFlowerCaches(world, this);
+			world.addEventListener(worldCaches.positionIndex);
+			world.addEventListener(worldCaches.territoryCache);
+			worldFlowerCaches.put(world, worldCaches);
+		}
+		return worldCaches;
+	}
+
+	private void clearFlowerIndexes() {
+		for (WorldFlowerCaches worldCaches : worldFlowerCaches.values()) {
+			worldCaches.positionIndex.clear();
+			worldCaches.territoryCache.clear();
+		}
+	}
+
+	public void onChunkUnload(World world, int chunkX, int chunkZ) {
+		WorldFlowerCaches worldCaches = worldFlowerCaches.get(world);
+		if (worldCaches != null) {
+			worldCaches.positionIndex.onChunkUnload(chunkX, chunkZ);
+		}
+	}
+
+	public void onWorldUnload(World world) {
+		WorldFlowerCaches worldCaches = worldFlowerCaches.remove(world);
+		if (worldCaches != null) {
+			world.removeEventListener(worldCaches.positionIndex);
+			world.removeEventListener(worldCaches.territoryCache);
+		}
+	}
+
+	private static class WorldFlowerCaches {
+		private final FlowerPositionIndex positionIndex;
+		private final FlowerTerritoryCache territoryCache;
+
+		public WorldFlowerCaches(World world, FlowerRegistry flowerRegistry) {
+			this.positionIndex = new FlowerPositionIndex(world, flowerRegistry);
+			this.territoryCache = new FlowerTerritoryCache(world, flowerRegistry);
+		}
+	}
+
 	@Override
 	public boolean growFlower(String flowerType, World world, IIndividual individual, BlockPos pos) {
 		if (!this.growthRules.containsKey(flowerType)) {
@@ -0,0 +1,202 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.apiculture.flowers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+import forestry.core.utils.WorldEventListenerAdapter;
+
+/**
+ * Shares territory flower scans between bee housings of one world.
+ * Territories are widened to chunk section boundaries, so housings close to each other with the same
+ * flower type and territory size resolve to the same region and reuse one scan of it.
+ * Regions are rescanned every {@link #BUCKET_TICKS} ticks and as soon as a block inside them changes.
+ * Regions are also indexed by the chunk sections they cover, so a block change only checks the regions around it.
+ */
+final class FlowerTerritoryCache extends WorldEventListenerAdapter {
+	private static final int BUCKET_TICKS = 128;
+	private static final int MAX_REGION_FLOWERS = 64;
+
+	private final World world;
+	private final FlowerRegistry flowerRegistry;
+	private final Map<Region, RegionFlowers> regions = new HashMap<>();
+	private final Map<Long, Set<Region>> regionsBySection = new HashMap<>();
+
+	public FlowerTerritoryCache(World world, FlowerRegistry flowerRegistry) {
+		this.world = world;
+		this.flowerRegistry = flowerRegistry;
+	}
+
+	public List<BlockPos> getFlowers(String flowerType, BlockPos min, final BlockPos center, BlockPos max, int maxFlowers) {
+		long bucket = world.getTotalWorldTime() / BUCKET_TICKS;
+		Region region = new Region(flowerType, min, max);
+
+		RegionFlowers regionFlowers = regions.get(region);
+		if (regionFlowers == null || regionFlowers.bucket != bucket) {
+			purgeExpired(bucket);
+			BlockPos regionCenter = new BlockPos((region.min.getX() + region.max.getX()) / 2, (region.min.getY() + region.max.getY()) / 2, (region.min.getZ() + region.max.getZ()) / 2);
+			List<BlockPos> flowers = flowerRegistry.getAcceptedFlowerCoordinates(world, flowerType, region.min, regionCenter, region.max, MAX_REGION_FLOWERS);
+			regionFlowers = new RegionFlowers(bucket, flowers);
+			if (regions.put(region, regionFlowers) == null) {
+				for (long sectionKey : region.getSectionKeys()) {
+					Set<Region> sectionRegions = regionsBySection.get(sectionKey);
+					if (sectionRegions == null) {
+						sectionRegions = new HashSet<>();
+						regionsBySection.put(sectionKey, sectionRegions);
+					}
+					sectionRegions.add(region);
+				}
+			}
+		}
+
+		List<BlockPos> flowerCoords = new ArrayList<>();
+		for (BlockPos flowerPos : regionFlowers.flowers) {
+			if (isInRange(flowerPos, min, max)) {
+				flowerCoords.add(flowerPos);
+			}
+		}
+
+		// the region scan stopped early, so it may have missed flowers inside this territory
+		if (flowerCoords.size() < maxFlowers && regionFlowers.flowers.size() >= MAX_REGION_FLOWERS) {
+			return flowerRegistry.getAcceptedFlowerCoordinates(world, flowerType, min, center, max, maxFlowers);
+		}
+
+		Collections.sort(flowerCoords, new Comparator<BlockPos>() {
+			@Override
+			public int compare(BlockPos pos1, BlockPos pos2) {
+				return Double.compare(pos1.distanceSq(center), pos2.distanceSq(center));
+			}
+		});
+
+		if (flowerCoords.size() > maxFlowers) {
+			return new ArrayList<>(flowerCoords.subList(0, maxFlowers));
+		}
+		return flowerCoords;
+	}
+
+	private void purgeExpired(long bucket) {
+		Iterator<Map.Entry<Region, RegionFlowers>> iterator = regions.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<Region, RegionFlowers> entry = iterator.next();
+			if (entry.getValue().bucket != bucket) {
+				iterator.remove();
+				removeFromSections(entry.getKey());
+			}
+		}
+	}
+
+	private void removeFromSections(Region region) {
+		for (long sectionKey : region.getSectionKeys()) {
+			Set<Region> sectionRegions = regionsBySection.get(sectionKey);
+			if (sectionRegions != null) {
+				sectionRegions.remove(region);
+				if (sectionRegions.isEmpty()) {
+					regionsBySection.remove(sectionKey);
+				}
+			}
+		}
+	}
+
+	@Override
+	public void notifyBlockUpdate(World world, BlockPos pos, IBlockState oldState, IBlockState newState, int flags) {
+		if (oldState == newState || regions.isEmpty() || pos.getY() < 0 || pos.getY() > 255) {
+			return;
+		}
+
+		Set<Region> sectionRegions = regionsBySection.get(FlowerPositionIndex.getSectionKey(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4));
+		if (sectionRegions == null) {
+			return;
+		}
+
+		List<Region> invalidRegions = new ArrayList<>();
+		for (Region region : sectionRegions) {
+			if (flowerRegistry.mayAffectFlowers(region.flowerType, oldState, newState)) {
+				invalidRegions.add(region);
+			}
+		}
+
+		for (Region region : invalidRegions) {
+			regions.remove(region);
+			removeFromSections(region);
+		}
+	}
+
+	public void clear() {
+		regions.clear();
+		regionsBySection.clear();
+	}
+
+	private static boolean isInRange(BlockPos pos, BlockPos min, BlockPos max) {
+		return pos.getX() >= min.getX() && pos.getX() <= max.getX() && pos.getY() >= min.getY() && pos.getY() <= max.getY() && pos.getZ() >= min.getZ() && pos.getZ() <= max.getZ();
+	}
+
+	private static final class Region {
+		private final String flowerType;
+		private final BlockPos min;
+		private final BlockPos max;
+
+		public Region(String flowerType, BlockPos min, BlockPos max) {
+			this.flowerType = flowerType;
+			this.min = new BlockPos(min.getX() & ~15, min.getY() & ~15, min.getZ() & ~15);
+			this.max = new BlockPos(max.getX() | 15, max.getY() | 15, max.getZ() | 15);
+		}
+
+		public List<Long> getSectionKeys() {
+			List<Long> sectionKeys = new ArrayList<>();
+			int minSectionY = Math.max(0, min.getY() >> 4);
+			int maxSectionY = Math.min(15, max.getY() >> 4);
+			for (int sectionX = min.getX() >> 4; sectionX <= max.getX() >> 4; sectionX++) {
+				for (int sectionZ = min.getZ() >> 4; sectionZ <= max.getZ() >> 4; sectionZ++) {
+					for (int sectionY = minSectionY; sectionY <= maxSectionY; sectionY++) {
+						sectionKeys.add(FlowerPositionIndex.getSectionKey(sectionX, sectionY, sectionZ));
+					}
+				}
+			}
+			return sectionKeys;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Region)) {
+				return false;
+			}
+			Region other = (Region) obj;
+			return flowerType.equals(other.flowerType) && min.equals(other.min) && max.equals(other.max);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * (31 * flowerType.hashCode() + min.hashCode()) + max.hashCode();
+		}
+	}
+
+	private static final class RegionFlowers {
+		private final long bucket;
+		private final List<BlockPos> flowers;
+
+		public RegionFlowers(long bucket, List<BlockPos> flowers) {
+			this.bucket = bucket;
+			this.flowers = flowers;
+		}
+	}
+}
@@ -63,6 +63,7 @@ import forestry.core.config.Config;
 import forestry.core.config.Constants;
 import forestry.core.errors.EnumErrorCode;
 import forestry.core.genetics.Chromosome;
+import forestry.core.genetics.Genome;
 import forestry.core.genetics.GenericRatings;
 import forestry.core.genetics.IndividualLiving;
 import forestry.core.utils.GeneticsUtil;
@@ -586,9 +587,9 @@ public class Bee extends IndividualLiving implements IBee {
 
 		World world = housing.getWorldObj();
 
-		IChromosome[] chromosomes = new IChromosome[genome.getChromosomes().length];
 		IChromosome[] parent1 = genome.getChromosomes();
 		IChromosome[] parent2 = mate.getChromosomes();
+		IChromosome[] chromosomes = new IChromosome[parent1.length];
 
 		// Check for mutation. Replace one of the parents with the mutation
 		// template if mutation occured.
@@ -615,8 +616,8 @@ public class Bee extends IndividualLiving implements IBee {
 
 		World world = housing.getWorldObj();
 
-		IChromosome[] parent1 = genomeOne.getChromosomes();
-		IChromosome[] parent2 = genomeTwo.getChromosomes();
+		IChromosome species1 = Genome.getChromosome(genomeOne, EnumBeeChromosome.SPECIES.ordinal());
+		IChromosome species2 = Genome.getChromosome(genomeTwo, EnumBeeChromosome.SPECIES.ordinal());
 
 		IBeeGenome genome0;
 		IBeeGenome genome1;
@@ -625,14 +626,14 @@ public class Bee extends IndividualLiving implements IBee {
 		IAlleleBeeSpecies allele1;
 
 		if (world.rand.nextBoolean()) {
-			allele0 = (IAlleleBeeSpecies) parent1[EnumBeeChromosome.SPECIES.ordinal()].getPrimaryAllele();
-			allele1 = (IAlleleBeeSpecies) parent2[EnumBeeChromosome.SPECIES.ordinal()].getSecondaryAllele();
+			allele0 = (IAlleleBeeSpecies) species1.getPrimaryAllele();
+			allele1 = (IAlleleBeeSpecies) species2.getSecondaryAllele();
 
 			genome0 = genomeOne;
 			genome1 = genomeTwo;
 		} else {
-			allele0 = (IAlleleBeeSpecies) parent2[EnumBeeChromosome.SPECIES.ordinal()].getPrimaryAllele();
-			allele1 = (IAlleleBeeSpecies) parent1[EnumBeeChromosome.SPECIES.ordinal()].getSecondaryAllele();
+			allele0 = (IAlleleBeeSpecies) species2.getPrimaryAllele();
+			allele1 = (IAlleleBeeSpecies) species1.getSecondaryAllele();
 
 			genome0 = genomeTwo;
 			genome1 = genomeOne;
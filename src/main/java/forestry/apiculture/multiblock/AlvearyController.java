@@ -52,6 +52,8 @@ import forestry.core.utils.BlockUtil;
 import forestry.core.utils.Translator;
 
 public class AlvearyController extends RectangularMultiblockControllerBase implements IAlvearyControllerInternal, IClimateControlled {
+	// how long an idle alveary waits before checking its conditions again, unless its inventory or parts change
+	private static final int IDLE_SLEEP_TICKS = 20;
 
 	private final InventoryBeeHousing inventory;
 	private final IBeekeepingLogic beekeepingLogic;
@@ -247,6 +249,10 @@ public class AlvearyController extends RectangularMultiblockControllerBase imple
 		tempChange = equalizeChange(tempChange);
 		humidChange = equalizeChange(humidChange);
 
+		if (!canWork && activeComponents.isEmpty() && climatisers.isEmpty() && tempChange == 0 && humidChange == 0) {
+			sleep(IDLE_SLEEP_TICKS);
+		}
+
 		return canWork;
 	}
 
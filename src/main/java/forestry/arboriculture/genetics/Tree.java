@@ -37,6 +37,7 @@ import forestry.api.genetics.IMutation;
 import forestry.arboriculture.genetics.alleles.AlleleFruit;
 import forestry.core.config.Config;
 import forestry.core.genetics.Chromosome;
+import forestry.core.genetics.Genome;
 import forestry.core.genetics.Individual;
 import forestry.core.utils.Translator;
 import net.minecraft.block.Block;
@@ -316,9 +317,9 @@ public class Tree extends Individual implements ITree, IPlantable {
 
 	private ITree createOffspring(World world, GameProfile playerProfile, BlockPos pos) {
 
-		IChromosome[] chromosomes = new IChromosome[genome.getChromosomes().length];
 		IChromosome[] parent1 = genome.getChromosomes();
 		IChromosome[] parent2 = mate.getChromosomes();
+		IChromosome[] chromosomes = new IChromosome[parent1.length];
 
 		// Check for mutation. Replace one of the parents with the mutation
 		// template if mutation occured.
@@ -342,8 +343,8 @@ public class Tree extends Individual implements ITree, IPlantable {
 
 	private static IChromosome[] mutateSpecies(World world, @Nullable GameProfile playerProfile, BlockPos pos, ITreeGenome genomeOne, ITreeGenome genomeTwo) {
 
-		IChromosome[] parent1 = genomeOne.getChromosomes();
-		IChromosome[] parent2 = genomeTwo.getChromosomes();
+		IChromosome species1 = Genome.getChromosome(genomeOne, EnumTreeChromosome.SPECIES.ordinal());
+		IChromosome species2 = Genome.getChromosome(genomeTwo, EnumTreeChromosome.SPECIES.ordinal());
 
 		ITreeGenome genome0;
 		ITreeGenome genome1;
@@ -351,14 +352,14 @@ public class Tree extends Individual implements ITree, IPlantable {
 		IAlleleTreeSpecies allele1;
 
 		if (world.rand.nextBoolean()) {
-			allele0 = (IAlleleTreeSpecies) parent1[EnumTreeChromosome.SPECIES.ordinal()].getPrimaryAllele();
-			allele1 = (IAlleleTreeSpecies) parent2[EnumTreeChromosome.SPECIES.ordinal()].getSecondaryAllele();
+			allele0 = (IAlleleTreeSpecies) species1.getPrimaryAllele();
+			allele1 = (IAlleleTreeSpecies) species2.getSecondaryAllele();
 
 			genome0 = genomeOne;
 			genome1 = genomeTwo;
 		} else {
-			allele0 = (IAlleleTreeSpecies) parent2[EnumTreeChromosome.SPECIES.ordinal()].getPrimaryAllele();
-			allele1 = (IAlleleTreeSpecies) parent1[EnumTreeChromosome.SPECIES.ordinal()].getSecondaryAllele();
+			allele0 = (IAlleleTreeSpecies) species2.getPrimaryAllele();
+			allele1 = (IAlleleTreeSpecies) species1.getSecondaryAllele();
 
 			genome0 = genomeTwo;
 			genome1 = genomeOne;
@@ -11,6 +11,7 @@
 package forestry.arboriculture.models;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.Collections;
 import java.util.List;
 
@@ -35,6 +36,7 @@ import forestry.api.arboriculture.IAlleleTreeSpecies;
 import forestry.api.arboriculture.ILeafSpriteProvider;
 import forestry.api.arboriculture.ITreeGenome;
 import forestry.api.core.IModelBaker;
+import forestry.api.core.IModelBakerModel;
 import forestry.arboriculture.blocks.BlockDecorativeLeaves;
 import forestry.arboriculture.genetics.TreeDefinition;
 import forestry.core.models.ModelBlockDefault;
@@ -49,8 +51,6 @@ public class ModelDecorativeLeaves extends ModelBlockDefault<BlockDecorativeLeav
 	
 	@Override
 	public List<BakedQuad> getQuads(IBlockState state, EnumFacing side, long rand) {
-		IModelBaker baker = new ModelBaker();
-
 		Block block = state.getBlock();
 		if (!blockClass.isInstance(block)) {
 			return null;
@@ -58,11 +58,20 @@ public class ModelDecorativeLeaves extends ModelBlockDefault<BlockDecorativeLeav
 		BlockDecorativeLeaves bBlock = blockClass.cast(block);
 		TreeDefinition tree = state.getValue(bBlock.getVariant());
 
-		baker.setRenderBounds(Block.FULL_BLOCK_AABB);
-		bakeBlock(bBlock, tree, baker);
+		ModelLeaves.Key key = getKey(tree);
+		IModelBakerModel model = key != null ? getCachedWorldModel(key) : null;
+		if (model == null) {
+			IModelBaker baker = new ModelBaker();
+			baker.setRenderBounds(Block.FULL_BLOCK_AABB);
+			bakeBlock(bBlock, tree, baker);
+			model = baker.bakeModel(false);
+			if (key != null) {
+				cacheWorldModel(key, model);
+			}
+		}
 
-		blockModel = baker.bakeModel(false);
-		return blockModel.getQuads(state, side, rand);
+		blockModel = model;
+		return model.getQuads(state, side, rand);
 	}
 	
 	@Override
@@ -81,7 +90,6 @@ public class ModelDecorativeLeaves extends ModelBlockDefault<BlockDecorativeLeav
 		
 		@Override
 		public IBakedModel handleItemState(IBakedModel originalModel, ItemStack stack, World world, EntityLivingBase entity) {
-			IModelBaker baker = new ModelBaker();
 			Block block = Block.getBlockFromItem(stack.getItem());
 			if (!modelDecorativeLeaves.blockClass.isInstance(block)) {
 				return null;
@@ -89,10 +97,19 @@ public class ModelDecorativeLeaves extends ModelBlockDefault<BlockDecorativeLeav
 			BlockDecorativeLeaves bBlock = modelDecorativeLeaves.blockClass.cast(block);
 			TreeDefinition tree = bBlock.getTreeType(stack.getMetadata());
 
-			baker.setRenderBounds(Block.FULL_BLOCK_AABB);
-			bakeBlock(bBlock, tree, baker);
+			ModelLeaves.Key key = getKey(tree);
+			IModelBakerModel model = key != null ? modelDecorativeLeaves.getCachedInventoryModel(key) : null;
+			if (model == null) {
+				IModelBaker baker = new ModelBaker();
+				baker.setRenderBounds(Block.FULL_BLOCK_AABB);
+				bakeBlock(bBlock, tree, baker);
+				model = baker.bakeModel(true);
+				if (key != null) {
+					modelDecorativeLeaves.cacheInventoryModel(key, model);
+				}
+			}
 
-			return modelDecorativeLeaves.itemModel = baker.bakeModel(true);
+			return modelDecorativeLeaves.itemModel = model;
 		}
 		
 	}
@@ -106,6 +123,15 @@ public class ModelDecorativeLeaves extends ModelBlockDefault<BlockDecorativeLeav
 	protected void bakeWorldBlock(@Nonnull BlockDecorativeLeaves block, @Nonnull IBlockAccess world, @Nonnull BlockPos pos, @Nonnull IExtendedBlockState stateExtended, @Nonnull IModelBaker baker) {
 	}
 
+	@Nullable
+	private static ModelLeaves.Key getKey(@Nullable TreeDefinition treeDefinition) {
+		if (treeDefinition == null) {
+			return null;
+		}
+		ITreeGenome genome = treeDefinition.getGenome();
+		return new ModelLeaves.Key(genome.getPrimary(), false, genome.getFruitProvider().getDecorativeSprite(), Proxies.render.fancyGraphicsEnabled());
+	}
+
 	public static void bakeBlock(BlockDecorativeLeaves block, TreeDefinition treeDefinition, IModelBaker baker) {
 		if (treeDefinition == null) {
 			return;
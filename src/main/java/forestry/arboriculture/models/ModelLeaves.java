@@ -11,29 +11,47 @@
 package forestry.arboriculture.models;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Objects;
 
 import net.minecraft.block.Block;
 import net.minecraft.client.renderer.texture.TextureAtlasSprite;
 import net.minecraft.client.renderer.texture.TextureMap;
 import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.IBlockAccess;
 
 import net.minecraftforge.common.property.IExtendedBlockState;
 
+import forestry.api.arboriculture.EnumTreeChromosome;
 import forestry.api.arboriculture.IAlleleTreeSpecies;
+import forestry.api.arboriculture.ITreeGenome;
+import forestry.api.arboriculture.TreeManager;
 import forestry.api.core.IModelBaker;
+import forestry.api.genetics.IAllele;
 import forestry.arboriculture.blocks.BlockForestryLeaves;
 import forestry.arboriculture.genetics.TreeDefinition;
 import forestry.arboriculture.genetics.TreeRoot;
 import forestry.arboriculture.items.ItemBlockLeaves;
 import forestry.arboriculture.tiles.TileLeaves;
+import forestry.core.genetics.Genome;
 import forestry.core.models.ModelBlockDefault;
 import forestry.core.proxy.Proxies;
 import forestry.core.tiles.TileUtil;
 
 public class ModelLeaves extends ModelBlockDefault<BlockForestryLeaves> {
+	/**
+	 * Chromosomes a leaf item model depends on.
+	 */
+	private static final EnumTreeChromosome[] ITEM_KEY_CHROMOSOMES = {
+			EnumTreeChromosome.SPECIES,
+			EnumTreeChromosome.FRUITS,
+			EnumTreeChromosome.FERTILITY,
+			EnumTreeChromosome.SAPPINESS
+	};
 
 	public ModelLeaves() {
 		super(BlockForestryLeaves.class);
@@ -74,6 +92,43 @@ public class ModelLeaves extends ModelBlockDefault<BlockForestryLeaves> {
 		}
 	}
 
+	@Override
+	protected Object getInventoryKey(@Nonnull BlockForestryLeaves block, @Nonnull ItemStack itemStack) {
+		if (!(itemStack.getItem() instanceof ItemBlockLeaves)) {
+			return null;
+		}
+
+		IAllele[] alleles = new IAllele[ITEM_KEY_CHROMOSOMES.length];
+		int ripeningTime = 0;
+		int damage = 0;
+		NBTTagCompound nbt = itemStack.getTagCompound();
+		if (nbt != null) {
+			// read only the values the model depends on instead of loading the whole tile
+			NBTTagCompound genomeNBT = nbt.getCompoundTag("ContainedTree").getCompoundTag("Genome");
+			for (int i = 0; i < ITEM_KEY_CHROMOSOMES.length; i++) {
+				alleles[i] = Genome.getActiveAlleleDirectly(TreeManager.treeRoot, genomeNBT, ITEM_KEY_CHROMOSOMES[i]);
+			}
+			ripeningTime = nbt.getShort("RT");
+			damage = nbt.getInteger("ENC");
+		} else {
+			ITreeGenome genome = TreeRoot.treeTemplates.get(0).getGenome();
+			for (int i = 0; i < ITEM_KEY_CHROMOSOMES.length; i++) {
+				alleles[i] = genome.getActiveAllele(ITEM_KEY_CHROMOSOMES[i]);
+			}
+		}
+		return new ItemKey(alleles, ripeningTime, damage, Proxies.render.fancyGraphicsEnabled());
+	}
+
+	@Override
+	protected Object getWorldKey(@Nonnull BlockForestryLeaves block, @Nonnull IBlockAccess world, @Nonnull BlockPos pos, @Nonnull IExtendedBlockState stateExtended) {
+		TileLeaves tile = TileUtil.getTile(world, pos, TileLeaves.class);
+		boolean fancy = Proxies.render.fancyGraphicsEnabled();
+		if (tile == null) {
+			return new Key(null, false, null, fancy);
+		}
+		return new Key(tile.getSpecies(), tile.isPollinatedState(), tile.getFruitSprite(), fancy);
+	}
+
 	@Override
 	public void bakeWorldBlock(@Nonnull BlockForestryLeaves block, @Nonnull IBlockAccess world, @Nonnull BlockPos pos, @Nonnull IExtendedBlockState stateExtended, @Nonnull IModelBaker baker) {
 		TileLeaves tile = TileUtil.getTile(world, pos, TileLeaves.class);
@@ -105,4 +160,77 @@ public class ModelLeaves extends ModelBlockDefault<BlockForestryLeaves> {
 		// Set the particle sprite
 		baker.setParticleSprite(leafSprite);
 	}
+
+	/**
+	 * Everything a leaf item model depends on. The fruit sprite is determined by the fruit allele and the ripening time,
+	 * whether the fruit is shown by the damage and the resilience, which follows from fertility and sappiness.
+	 */
+	private static final class ItemKey {
+		private final IAllele[] alleles;
+		private final int ripeningTime;
+		private final int damage;
+		private final boolean fancy;
+
+		public ItemKey(IAllele[] alleles, int ripeningTime, int damage, boolean fancy) {
+			this.alleles = alleles;
+			this.ripeningTime = ripeningTime;
+			this.damage = damage;
+			this.fancy = fancy;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof ItemKey)) {
+				return false;
+			}
+			ItemKey other = (ItemKey) obj;
+			return ripeningTime == other.ripeningTime && damage == other.damage && fancy == other.fancy &&
+					Arrays.equals(alleles, other.alleles);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(Arrays.hashCode(alleles), ripeningTime, damage, fancy);
+		}
+	}
+
+	/**
+	 * Everything a leaf model depends on. Leaves with equal keys share one baked model.
+	 */
+	public static final class Key {
+		@Nullable
+		private final IAlleleTreeSpecies species;
+		private final boolean pollinated;
+		@Nullable
+		private final ResourceLocation fruitSprite;
+		private final boolean fancy;
+
+		public Key(@Nullable IAlleleTreeSpecies species, boolean pollinated, @Nullable ResourceLocation fruitSprite, boolean fancy) {
+			this.species = species;
+			this.pollinated = pollinated;
+			this.fruitSprite = fruitSprite;
+			this.fancy = fancy;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return species == other.species && pollinated == other.pollinated && fancy == other.fancy &&
+					Objects.equals(fruitSprite, other.fruitSprite);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(species, pollinated, fruitSprite, fancy);
+		}
+	}
 }
@@ -50,6 +50,8 @@ public class CharcoalPileController extends RectangularMultiblockControllerBase
 		this.active = active;
 
 		if (worldObj != null) {
+			wakeUp();
+
 			if (worldObj.isRemote) {
 				worldObj.markBlockRangeForRenderUpdate(getMinimumCoord(), getMaximumCoord());
 			} else {
@@ -110,6 +112,8 @@ public class CharcoalPileController extends RectangularMultiblockControllerBase
 	@Override
 	protected boolean updateServer(int tickCount) {
 		if (!isActive()) {
+			// nothing to do until the pile is lit
+			sleepUntilWoken();
 			return false;
 		}
 		if(woodBurnTime == 0){
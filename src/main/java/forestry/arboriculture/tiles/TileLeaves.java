@@ -44,7 +44,6 @@ import forestry.arboriculture.network.IRipeningPacketReceiver;
 import forestry.arboriculture.network.packets.PacketRipeningUpdate;
 import forestry.core.network.DataInputStreamForestry;
 import forestry.core.network.DataOutputStreamForestry;
-import forestry.core.network.packets.PacketTileStream;
 import forestry.core.proxy.Proxies;
 import forestry.core.utils.ColourUtil;
 import forestry.core.utils.GeneticsUtil;
@@ -305,7 +304,7 @@ public class TileLeaves extends TileTreeContainer implements IPollinatable, IFru
 
 	/* NETWORK */
 	private void sendNetworkUpdate() {
-		Proxies.net.sendNetworkPacket(new PacketTileStream(this), worldObj);
+		Proxies.net.sendTileUpdate(this);
 	}
 
 	private void sendNetworkUpdateRipening() {
@@ -447,6 +446,18 @@ public class TileLeaves extends TileTreeContainer implements IPollinatable, IFru
 		return species.getUID();
 	}
 
+	@Nullable
+	public IAlleleTreeSpecies getSpecies() {
+		return species;
+	}
+
+	/**
+	 * The pollinated state that is synced to clients and used for the leaf sprite.
+	 */
+	public boolean isPollinatedState() {
+		return isPollinatedState;
+	}
+
 	/* IBUTTERFLYNURSERY */
 	private IButterfly caterpillar;
 
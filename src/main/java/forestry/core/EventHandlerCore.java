@@ -13,7 +13,9 @@ package forestry.core;
 import java.util.Collection;
 
 import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.ResourceLocation;
+import net.minecraft.world.World;
 import net.minecraft.world.storage.loot.LootPool;
 import net.minecraft.world.storage.loot.LootTable;
 
@@ -32,7 +34,11 @@ import forestry.api.genetics.IBreedingTracker;
 import forestry.api.genetics.ISpeciesRoot;
 import forestry.core.config.Constants;
 import forestry.core.errors.ErrorStateRegistry;
+import forestry.core.genetics.alleles.AlleleIdMap;
+import forestry.core.genetics.alleles.AlleleRegistry;
 import forestry.core.loot.LootTableLoader;
+import forestry.core.network.packets.PacketAlleleIdSync;
+import forestry.core.proxy.Proxies;
 import forestry.core.render.TextureManager;
 import forestry.plugins.PluginManager;
 
@@ -65,11 +71,21 @@ public class EventHandlerCore {
 				IBreedingTracker breedingTracker = speciesRoot.getBreedingTracker(player.getEntityWorld(), player.getGameProfile());
 				breedingTracker.synchToPlayer(player);
 			}
+
+			AlleleIdMap alleleIds = ((AlleleRegistry) AlleleManager.alleleRegistry).getSavedAlleleIds();
+			if (alleleIds != null) {
+				Proxies.net.sendToPlayer(new PacketAlleleIdSync(alleleIds.writeToNBT(new NBTTagCompound())), player);
+			}
 		}
 	}
 
 	@SubscribeEvent
 	public void handleWorldLoad(WorldEvent.Load event) {
+		World world = event.getWorld();
+		if (!world.isRemote && world.provider.getDimension() == 0) {
+			((AlleleRegistry) AlleleManager.alleleRegistry).loadSavedAlleleIds(world);
+		}
+
 		for (ISaveEventHandler handler : PluginManager.saveEventHandlers) {
 			handler.onWorldLoad(event.getWorld());
 		}
@@ -84,6 +100,12 @@ public class EventHandlerCore {
 
 	@SubscribeEvent
 	public void handleWorldUnload(WorldEvent.Unload event) {
+		World world = event.getWorld();
+		if (!world.isRemote && world.provider.getDimension() == 0) {
+			((AlleleRegistry) AlleleManager.alleleRegistry).setSavedAlleleIds(null);
+		}
+		Proxies.net.onWorldUnloaded(world);
+
 		for (ISaveEventHandler handler : PluginManager.saveEventHandlers) {
 			handler.onWorldUnload(event.getWorld());
 		}
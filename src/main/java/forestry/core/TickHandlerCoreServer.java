@@ -27,6 +27,7 @@ import net.minecraftforge.fml.common.gameevent.TickEvent.WorldTickEvent;
 
 import forestry.core.config.Config;
 import forestry.core.config.Constants;
+import forestry.core.proxy.Proxies;
 import forestry.core.worldgen.WorldGenerator;
 import forestry.plugins.PluginManager;
 
@@ -73,6 +74,8 @@ public class TickHandlerCoreServer {
 				worldGenerator.retroGen(random, coords.xCoord, coords.zCoord, world);
 			}
 		}
+
+		Proxies.net.sendTileUpdates(event.world);
 	}
 
 	@SubscribeEvent
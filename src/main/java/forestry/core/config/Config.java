@@ -71,6 +71,10 @@ public class Config {
 
 	// Performance
 	public static boolean enableBackpackResupply = true;
+	public static int backpackResupplyInterval = 100;
+	public static boolean compactGenomeNBT = false;
+	public static boolean skipUnchangedTileUpdates = true;
+	public static int farmCropsCulledPerCycle = 1;
 
 	// Customization
 	private static boolean craftingBronzeEnabled = true;
@@ -206,6 +210,10 @@ public class Config {
 		maxResearchMutationBoostPercent = configCommon.getFloatLocalized("genetics.research.boost", "max.percent", maxResearchMutationBoostPercent, 0.0f, 100.0f);
 
 		enableBackpackResupply = configCommon.getBooleanLocalized("performance", "backpacks.resupply", enableBackpackResupply);
+		backpackResupplyInterval = configCommon.getIntLocalized("performance", "backpacks.resupply.interval", backpackResupplyInterval, 1, 72000);
+		compactGenomeNBT = configCommon.getBooleanLocalized("performance", "genetics.compact.nbt", compactGenomeNBT);
+		skipUnchangedTileUpdates = configCommon.getBooleanLocalized("performance", "network.tiles.skip.unchanged", skipUnchangedTileUpdates);
+		farmCropsCulledPerCycle = configCommon.getIntLocalized("performance", "farms.cull.per.cycle", farmCropsCulledPerCycle, 1, 64);
 
 		mailAlertEnabled = configCommon.getBooleanLocalized("tweaks.gui.mail.alert", "enabled", mailAlertEnabled);
 		mailAlertXPosition = configCommon.getEnumLocalized("tweaks.gui.mail.alert", "xPosition", mailAlertXPosition, GuiMailboxInfo.XPosition.values());
@@ -12,6 +12,7 @@ package forestry.core.genetics;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -56,6 +57,13 @@ public abstract class BreedingTracker extends WorldSavedData implements IBreedin
 	private final Set<String> discoveredSpecies = new HashSet<>();
 	private final Set<String> discoveredMutations = new HashSet<>();
 	private final Set<String> researchedMutations = new HashSet<>();
+	/**
+	 * The mutation sets by mutation id of the species root, for lookups on the breeding path.
+	 * The string sets stay the saved state, they also keep mutations that are currently not registered.
+	 */
+	private final BitSet discoveredMutationIds = new BitSet();
+	private final BitSet researchedMutationIds = new BitSet();
+	private int indexedMutationIds;
 	private String modeName;
 
 	@Nullable
@@ -150,6 +158,10 @@ public abstract class BreedingTracker extends WorldSavedData implements IBreedin
 		readValuesFromNBT(nbttagcompound, discoveredSpecies, SPECIES_COUNT_KEY, SPECIES_KEY);
 		readValuesFromNBT(nbttagcompound, discoveredMutations, MUTATIONS_COUNT_KEY, MUTATIONS_KEY);
 		readValuesFromNBT(nbttagcompound, researchedMutations, RESEARCHED_COUNT_KEY, RESEARCHED_KEY);
+
+		discoveredMutationIds.clear();
+		researchedMutationIds.clear();
+		indexedMutationIds = 0;
 	}
 
 	@Nonnull
@@ -195,30 +207,81 @@ public abstract class BreedingTracker extends WorldSavedData implements IBreedin
 		}
 	}
 
-	private static String getMutationString(IMutation mutation) {
+	static String getMutationString(IMutation mutation) {
 		String species0 = mutation.getAllele0().getUID();
 		String species1 = mutation.getAllele1().getUID();
 		String resultSpecies = mutation.getTemplate()[0].getUID();
 		return String.format(MUTATION_FORMAT, species0, species1, resultSpecies);
 	}
 
+	@Nullable
+	private SpeciesRoot getSpeciesRoot() {
+		ISpeciesRoot speciesRoot = AlleleManager.alleleRegistry.getSpeciesRoot(speciesRootUID());
+		return speciesRoot instanceof SpeciesRoot ? (SpeciesRoot) speciesRoot : null;
+	}
+
+	/**
+	 * @return The id of the mutation after mapping all new mutation ids into the id sets, or -1 if the mutation has no id.
+	 */
+	private int getMutationId(@Nullable SpeciesRoot speciesRoot, IMutation mutation) {
+		if (speciesRoot == null) {
+			return -1;
+		}
+
+		int mutationId = speciesRoot.getMutationId(mutation);
+		int mutationIdCount = speciesRoot.getMutationIdCount();
+		for (; indexedMutationIds < mutationIdCount; indexedMutationIds++) {
+			String mutationKey = speciesRoot.getMutationKey(indexedMutationIds);
+			if (discoveredMutations.contains(mutationKey)) {
+				discoveredMutationIds.set(indexedMutationIds);
+			}
+			if (researchedMutations.contains(mutationKey)) {
+				researchedMutationIds.set(indexedMutationIds);
+			}
+		}
+		return mutationId;
+	}
+
+	private static String addMutation(SpeciesRoot speciesRoot, int mutationId, Set<String> mutations, BitSet mutationIds) {
+		String mutationString = speciesRoot.getMutationKey(mutationId);
+		mutations.add(mutationString);
+		for (int id : speciesRoot.getMutationIds(mutationString)) {
+			mutationIds.set(id);
+		}
+		return mutationString;
+	}
+
 	@Override
 	public void registerMutation(IMutation mutation) {
-		String mutationString = getMutationString(mutation);
-		if (!discoveredMutations.contains(mutationString)) {
+		SpeciesRoot speciesRoot = getSpeciesRoot();
+		int mutationId = getMutationId(speciesRoot, mutation);
+		String mutationString;
+		if (mutationId >= 0) {
+			if (discoveredMutationIds.get(mutationId)) {
+				return;
+			}
+			mutationString = addMutation(speciesRoot, mutationId, discoveredMutations, discoveredMutationIds);
+		} else {
+			mutationString = getMutationString(mutation);
+			if (discoveredMutations.contains(mutationString)) {
+				return;
+			}
 			discoveredMutations.add(mutationString);
-			markDirty();
+		}
+		markDirty();
 
-			ISpeciesRoot speciesRoot = AlleleManager.alleleRegistry.getSpeciesRoot(speciesRootUID());
-			ForestryEvent event = new ForestryEvent.MutationDiscovered(speciesRoot, username, mutation, this);
-			MinecraftForge.EVENT_BUS.post(event);
+		ForestryEvent event = new ForestryEvent.MutationDiscovered(AlleleManager.alleleRegistry.getSpeciesRoot(speciesRootUID()), username, mutation, this);
+		MinecraftForge.EVENT_BUS.post(event);
 
-			syncToPlayer(emptyStringCollection, Collections.singleton(mutationString), emptyStringCollection);
-		}
+		syncToPlayer(emptyStringCollection, Collections.singleton(mutationString), emptyStringCollection);
 	}
 
 	@Override
 	public boolean isDiscovered(IMutation mutation) {
+		int mutationId = getMutationId(getSpeciesRoot(), mutation);
+		if (mutationId >= 0) {
+			return discoveredMutationIds.get(mutationId) || researchedMutationIds.get(mutationId);
+		}
 		String mutationString = getMutationString(mutation);
 		return discoveredMutations.contains(mutationString) || researchedMutations.contains(mutationString);
 	}
@@ -254,19 +317,34 @@ public abstract class BreedingTracker extends WorldSavedData implements IBreedin
 
 	@Override
 	public void researchMutation(IMutation mutation) {
-		String mutationString = getMutationString(mutation);
-		if (!researchedMutations.contains(mutationString)) {
+		SpeciesRoot speciesRoot = getSpeciesRoot();
+		int mutationId = getMutationId(speciesRoot, mutation);
+		String mutationString;
+		if (mutationId >= 0) {
+			if (researchedMutationIds.get(mutationId)) {
+				return;
+			}
+			mutationString = addMutation(speciesRoot, mutationId, researchedMutations, researchedMutationIds);
+		} else {
+			mutationString = getMutationString(mutation);
+			if (researchedMutations.contains(mutationString)) {
+				return;
+			}
 			researchedMutations.add(mutationString);
-			markDirty();
+		}
+		markDirty();
 
-			registerMutation(mutation);
+		registerMutation(mutation);
 
-			syncToPlayer(emptyStringCollection, emptyStringCollection, Collections.singleton(mutationString));
-		}
+		syncToPlayer(emptyStringCollection, emptyStringCollection, Collections.singleton(mutationString));
 	}
 
 	@Override
 	public boolean isResearched(IMutation mutation) {
+		int mutationId = getMutationId(getSpeciesRoot(), mutation);
+		if (mutationId >= 0) {
+			return researchedMutationIds.get(mutationId);
+		}
 		String mutationString = getMutationString(mutation);
 		return researchedMutations.contains(mutationString);
 	}
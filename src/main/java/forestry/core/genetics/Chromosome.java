@@ -35,7 +35,11 @@ public class Chromosome implements IChromosome {
 	public static Chromosome create(@Nullable String primarySpeciesUid, @Nullable String secondarySpeciesUid, @Nonnull IChromosomeType chromosomeType, @Nonnull NBTTagCompound nbt) {
 		IAllele primary = AlleleManager.alleleRegistry.getAllele(nbt.getString(UID0_TAG));
 		IAllele secondary = AlleleManager.alleleRegistry.getAllele(nbt.getString(UID1_TAG));
+		return create(primarySpeciesUid, secondarySpeciesUid, chromosomeType, primary, secondary);
+	}
 
+	@Nonnull
+	public static Chromosome create(@Nullable String primarySpeciesUid, @Nullable String secondarySpeciesUid, @Nonnull IChromosomeType chromosomeType, @Nullable IAllele primary, @Nullable IAllele secondary) {
 		primary = validateAllele(primarySpeciesUid, chromosomeType, primary);
 		secondary = validateAllele(secondarySpeciesUid, chromosomeType, secondary);
 
@@ -15,22 +15,45 @@ import javax.annotation.Nullable;
 import java.util.Arrays;
 
 import com.google.common.base.Objects;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import forestry.api.genetics.AlleleManager;
 import forestry.api.genetics.IAllele;
 import forestry.api.genetics.IAlleleSpecies;
 import forestry.api.genetics.IChromosome;
 import forestry.api.genetics.IChromosomeType;
 import forestry.api.genetics.IGenome;
 import forestry.api.genetics.ISpeciesRoot;
+import forestry.core.config.Config;
+import forestry.core.genetics.alleles.AlleleIdMap;
+import forestry.core.genetics.alleles.AlleleRegistry;
 import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 
 public abstract class Genome implements IGenome {
 
 	private static final String SLOT_TAG = "Slot";
+	private static final String CHROMOSOMES_TAG = "Chromosomes";
+	/**
+	 * Compact format: primary and secondary saved allele id for each chromosome, -1 for a missing chromosome.
+	 */
+	private static final String CHROMOSOME_IDS_TAG = "ChromosomeIds";
+	private static final int[] NO_ALLELE_IDS = new int[0];
+
+	/**
+	 * Lazily decoded views of genome NBT, by identity of the genome NBT compound.
+	 */
+	private static final Cache<NBTTagCompound, GenomeNBTView> genomeNBTViews = CacheBuilder.newBuilder()
+			.weakKeys()
+			.maximumSize(1024)
+			.build();
 
 	@Nonnull
 	private final IChromosome[] chromosomes;
+	@Nullable
+	private int[] alleleIds;
 
 	protected Genome(@Nonnull NBTTagCompound nbttagcompound) {
 		this.chromosomes = getChromosomes(nbttagcompound, getSpeciesRoot());
@@ -114,24 +137,11 @@ public abstract class Genome implements IGenome {
 	 */
 	@Nullable
 	public static IAlleleSpecies getSpeciesDirectly(@Nonnull ISpeciesRoot speciesRoot, @Nonnull ItemStack itemStack) {
-		NBTTagCompound nbtTagCompound = itemStack.getTagCompound();
-		if (nbtTagCompound == null) {
-			return null;
-		}
-
-		NBTTagCompound genomeNBT = nbtTagCompound.getCompoundTag("Genome");
-		if (genomeNBT == null) {
-			return null;
-		}
-
-		NBTTagList chromosomesNBT = genomeNBT.getTagList("Chromosomes", 10);
-		if (chromosomesNBT == null) {
+		IChromosome chromosome = getChromosome(itemStack, speciesRoot.getSpeciesChromosomeType(), speciesRoot);
+		if (chromosome == null) {
 			return null;
 		}
 
-		NBTTagCompound chromosomeNBT = chromosomesNBT.getCompoundTagAt(0);
-		Chromosome chromosome = Chromosome.create(null, null, speciesRoot.getSpeciesChromosomeType(), chromosomeNBT);
-
 		IAllele activeAllele = chromosome.getActiveAllele();
 		if (!(activeAllele instanceof IAlleleSpecies)) {
 			return null;
@@ -140,6 +150,18 @@ public abstract class Genome implements IGenome {
 		return (IAlleleSpecies) activeAllele;
 	}
 
+	/**
+	 * Quickly gets an active allele from genome NBT without loading the whole genome.
+	 */
+	@Nullable
+	public static IAllele getActiveAlleleDirectly(@Nonnull ISpeciesRoot speciesRoot, @Nonnull NBTTagCompound genomeNBT, @Nonnull IChromosomeType chromosomeType) {
+		IChromosome chromosome = getGenomeNBTView(genomeNBT, speciesRoot).getChromosome(chromosomeType.ordinal());
+		if (chromosome == null) {
+			return null;
+		}
+		return chromosome.getActiveAllele();
+	}
+
 	private static IChromosome getChromosome(ItemStack itemStack, IChromosomeType chromosomeType, ISpeciesRoot speciesRoot) {
 		NBTTagCompound nbtTagCompound = itemStack.getTagCompound();
 		if (nbtTagCompound == null) {
@@ -151,39 +173,20 @@ public abstract class Genome implements IGenome {
 			return null;
 		}
 
-		IChromosome[] chromosomes = getChromosomes(genome, speciesRoot);
-		if (chromosomes == null) {
-			return null;
-		}
-
-		return chromosomes[chromosomeType.ordinal()];
+		return getGenomeNBTView(genome, speciesRoot).getChromosome(chromosomeType.ordinal());
 	}
 
 	private static IChromosome[] getChromosomes(@Nonnull NBTTagCompound genomeNBT, @Nonnull ISpeciesRoot speciesRoot) {
+		return getGenomeNBTView(genomeNBT, speciesRoot).getChromosomes();
+	}
 
-		NBTTagList chromosomesNBT = genomeNBT.getTagList("Chromosomes", 10);
-		IChromosome[] chromosomes = new IChromosome[speciesRoot.getDefaultTemplate().length];
-
-		String primarySpeciesUid = null;
-		String secondarySpeciesUid = null;
-
-		for (int i = 0; i < chromosomesNBT.tagCount(); i++) {
-			NBTTagCompound chromosomeNBT = chromosomesNBT.getCompoundTagAt(i);
-			byte chromosomeOrdinal = chromosomeNBT.getByte(SLOT_TAG);
-
-			if (chromosomeOrdinal >= 0 && chromosomeOrdinal < chromosomes.length) {
-				IChromosomeType chromosomeType = speciesRoot.getKaryotype()[chromosomeOrdinal];
-				Chromosome chromosome = Chromosome.create(primarySpeciesUid, secondarySpeciesUid, chromosomeType, chromosomeNBT);
-				chromosomes[chromosomeOrdinal] = chromosome;
-
-				if (chromosomeOrdinal == speciesRoot.getSpeciesChromosomeType().ordinal()) {
-					primarySpeciesUid = chromosome.getPrimaryAllele().getUID();
-					secondarySpeciesUid = chromosome.getSecondaryAllele().getUID();
-				}
-			}
+	private static GenomeNBTView getGenomeNBTView(@Nonnull NBTTagCompound genomeNBT, @Nonnull ISpeciesRoot speciesRoot) {
+		GenomeNBTView view = genomeNBTViews.getIfPresent(genomeNBT);
+		if (view == null || !view.isValid(genomeNBT, speciesRoot)) {
+			view = new GenomeNBTView(genomeNBT, speciesRoot);
+			genomeNBTViews.put(genomeNBT, view);
 		}
-
-		return chromosomes;
+		return view;
 	}
 
 	protected static IAllele getActiveAllele(ItemStack itemStack, IChromosomeType chromosomeType, ISpeciesRoot speciesRoot) {
@@ -196,6 +199,13 @@ public abstract class Genome implements IGenome {
 
 	@Override
 	public NBTTagCompound writeToNBT(NBTTagCompound nbttagcompound) {
+		if (Config.compactGenomeNBT) {
+			int[] savedAlleleIds = getSavedAlleleIds();
+			if (savedAlleleIds != null) {
+				nbttagcompound.setIntArray(CHROMOSOME_IDS_TAG, savedAlleleIds);
+				return nbttagcompound;
+			}
+		}
 
 		NBTTagList nbttaglist = new NBTTagList();
 		for (int i = 0; i < chromosomes.length; i++) {
@@ -206,16 +216,91 @@ public abstract class Genome implements IGenome {
 				nbttaglist.appendTag(nbttagcompound1);
 			}
 		}
-		nbttagcompound.setTag("Chromosomes", nbttaglist);
+		nbttagcompound.setTag(CHROMOSOMES_TAG, nbttaglist);
 		return nbttagcompound;
 	}
 
+	@Nullable
+	private int[] getSavedAlleleIds() {
+		AlleleIdMap idMap = ((AlleleRegistry) AlleleManager.alleleRegistry).getSavedAlleleIds();
+		if (idMap == null) {
+			return null;
+		}
+
+		int[] savedAlleleIds = new int[chromosomes.length * 2];
+		for (int i = 0; i < chromosomes.length; i++) {
+			IChromosome chromosome = chromosomes[i];
+			if (chromosome == null) {
+				savedAlleleIds[i * 2] = savedAlleleIds[i * 2 + 1] = -1;
+				continue;
+			}
+
+			int primaryId = idMap.getId(chromosome.getPrimaryAllele());
+			int secondaryId = idMap.getId(chromosome.getSecondaryAllele());
+			if (primaryId < 0 || secondaryId < 0) {
+				return null;
+			}
+			savedAlleleIds[i * 2] = primaryId;
+			savedAlleleIds[i * 2 + 1] = secondaryId;
+		}
+		return savedAlleleIds;
+	}
+
+	/**
+	 * @return the session allele ids of all chromosomes, or {@link #NO_ALLELE_IDS} if an allele is not registered.
+	 */
+	private int[] getAlleleIds() {
+		if (alleleIds == null) {
+			AlleleRegistry alleleRegistry = (AlleleRegistry) AlleleManager.alleleRegistry;
+			int[] ids = new int[chromosomes.length * 2];
+			for (int i = 0; i < chromosomes.length; i++) {
+				IChromosome chromosome = chromosomes[i];
+				if (chromosome == null) {
+					ids[i * 2] = ids[i * 2 + 1] = -1;
+					continue;
+				}
+
+				int primaryId = alleleRegistry.getAlleleId(chromosome.getPrimaryAllele());
+				int secondaryId = alleleRegistry.getAlleleId(chromosome.getSecondaryAllele());
+				if (primaryId < 0 || secondaryId < 0) {
+					ids = NO_ALLELE_IDS;
+					break;
+				}
+				ids[i * 2] = primaryId;
+				ids[i * 2 + 1] = secondaryId;
+			}
+			alleleIds = ids;
+		}
+		return alleleIds;
+	}
+
 	// / INFORMATION RETRIEVAL
 	@Override
 	public IChromosome[] getChromosomes() {
 		return Arrays.copyOf(chromosomes, chromosomes.length);
 	}
 
+	/**
+	 * Read-only access to a chromosome, without copying the chromosome array like {@link #getChromosomes()} does.
+	 */
+	public IChromosome getChromosome(int index) {
+		return chromosomes[index];
+	}
+
+	public int getChromosomeCount() {
+		return chromosomes.length;
+	}
+
+	/**
+	 * Read-only access to a chromosome of any genome, which only copies the chromosome array for genomes that are not a {@link Genome}.
+	 */
+	public static IChromosome getChromosome(IGenome genome, int index) {
+		if (genome instanceof Genome) {
+			return ((Genome) genome).getChromosome(index);
+		}
+		return genome.getChromosomes()[index];
+	}
+
 	@Override
 	public IAllele getActiveAllele(IChromosomeType chromosomeType) {
 		return chromosomes[chromosomeType.ordinal()].getActiveAllele();
@@ -228,14 +313,24 @@ public abstract class Genome implements IGenome {
 
 	@Override
 	public boolean isGeneticEqual(IGenome other) {
-		IChromosome[] genetics = other.getChromosomes();
-		if (chromosomes.length != genetics.length) {
+		if (other instanceof Genome) {
+			int[] ids = getAlleleIds();
+			int[] otherIds = ((Genome) other).getAlleleIds();
+			if (ids != NO_ALLELE_IDS && otherIds != NO_ALLELE_IDS) {
+				return Arrays.equals(ids, otherIds);
+			}
+		}
+
+		Genome otherGenome = other instanceof Genome ? (Genome) other : null;
+		IChromosome[] genetics = otherGenome != null ? null : other.getChromosomes();
+		int otherCount = otherGenome != null ? otherGenome.getChromosomeCount() : genetics.length;
+		if (getChromosomeCount() != otherCount) {
 			return false;
 		}
 
-		for (int i = 0; i < chromosomes.length; i++) {
-			IChromosome chromosome = chromosomes[i];
-			IChromosome otherChromosome = genetics[i];
+		for (int i = 0; i < otherCount; i++) {
+			IChromosome chromosome = getChromosome(i);
+			IChromosome otherChromosome = otherGenome != null ? otherGenome.getChromosome(i) : genetics[i];
 			if (chromosome == null && otherChromosome == null) {
 				continue;
 			}
@@ -263,4 +358,97 @@ public abstract class Genome implements IGenome {
 		}
 		return toStringHelper.toString();
 	}
+
+	/**
+	 * Genome NBT that is decoded one chromosome at a time, when a chromosome is first asked for.
+	 */
+	private static class GenomeNBTView {
+		private final ISpeciesRoot speciesRoot;
+		private final NBTTagList chromosomesNBT;
+		private final int tagCount;
+		@Nullable
+		private final NBTBase chromosomeIdsNBT;
+		@Nullable
+		private final int[] chromosomeIds;
+		private final NBTTagCompound[] chromosomeNBTs;
+		private final IChromosome[] chromosomes;
+
+		public GenomeNBTView(NBTTagCompound genomeNBT, ISpeciesRoot speciesRoot) {
+			this.speciesRoot = speciesRoot;
+			this.chromosomesNBT = genomeNBT.getTagList(CHROMOSOMES_TAG, 10);
+			this.tagCount = chromosomesNBT.tagCount();
+			if (genomeNBT.hasKey(CHROMOSOME_IDS_TAG, 11)) {
+				this.chromosomeIdsNBT = genomeNBT.getTag(CHROMOSOME_IDS_TAG);
+				this.chromosomeIds = genomeNBT.getIntArray(CHROMOSOME_IDS_TAG);
+			} else {
+				this.chromosomeIdsNBT = null;
+				this.chromosomeIds = null;
+			}
+
+			int chromosomeCount = speciesRoot.getDefaultTemplate().length;
+			this.chromosomeNBTs = new NBTTagCompound[chromosomeCount];
+			this.chromosomes = new IChromosome[chromosomeCount];
+
+			for (int i = 0; i < tagCount; i++) {
+				NBTTagCompound chromosomeNBT = chromosomesNBT.getCompoundTagAt(i);
+				byte chromosomeOrdinal = chromosomeNBT.getByte(SLOT_TAG);
+				if (chromosomeOrdinal >= 0 && chromosomeOrdinal < chromosomeCount) {
+					chromosomeNBTs[chromosomeOrdinal] = chromosomeNBT;
+				}
+			}
+		}
+
+		public boolean isValid(NBTTagCompound genomeNBT, ISpeciesRoot speciesRoot) {
+			return this.speciesRoot == speciesRoot &&
+					genomeNBT.getTagList(CHROMOSOMES_TAG, 10) == chromosomesNBT && chromosomesNBT.tagCount() == tagCount &&
+					genomeNBT.getTag(CHROMOSOME_IDS_TAG) == chromosomeIdsNBT;
+		}
+
+		@Nullable
+		public IChromosome getChromosome(int ordinal) {
+			if (ordinal < 0 || ordinal >= chromosomes.length) {
+				return null;
+			}
+
+			IChromosome chromosome = chromosomes[ordinal];
+			if (chromosome == null && (chromosomeNBTs[ordinal] != null || hasChromosomeIds(ordinal))) {
+				String primarySpeciesUid = null;
+				String secondarySpeciesUid = null;
+
+				// missing alleles are replaced from the species template
+				int speciesOrdinal = speciesRoot.getSpeciesChromosomeType().ordinal();
+				if (ordinal != speciesOrdinal) {
+					IChromosome speciesChromosome = getChromosome(speciesOrdinal);
+					if (speciesChromosome != null) {
+						primarySpeciesUid = speciesChromosome.getPrimaryAllele().getUID();
+						secondarySpeciesUid = speciesChromosome.getSecondaryAllele().getUID();
+					}
+				}
+
+				IChromosomeType chromosomeType = speciesRoot.getKaryotype()[ordinal];
+				if (hasChromosomeIds(ordinal)) {
+					AlleleIdMap idMap = ((AlleleRegistry) AlleleManager.alleleRegistry).getSavedAlleleIds();
+					IAllele primary = idMap != null ? idMap.getAllele(chromosomeIds[ordinal * 2]) : null;
+					IAllele secondary = idMap != null ? idMap.getAllele(chromosomeIds[ordinal * 2 + 1]) : null;
+					chromosome = Chromosome.create(primarySpeciesUid, secondarySpeciesUid, chromosomeType, primary, secondary);
+				} else {
+					chromosome = Chromosome.create(primarySpeciesUid, secondarySpeciesUid, chromosomeType, chromosomeNBTs[ordinal]);
+				}
+				chromosomes[ordinal] = chromosome;
+			}
+			return chromosome;
+		}
+
+		private boolean hasChromosomeIds(int ordinal) {
+			return chromosomeIds != null && chromosomeIds.length > ordinal * 2 + 1 && chromosomeIds[ordinal * 2] >= 0;
+		}
+
+		public IChromosome[] getChromosomes() {
+			IChromosome[] copy = new IChromosome[chromosomes.length];
+			for (int i = 0; i < chromosomes.length; i++) {
+				copy[i] = getChromosome(i);
+			}
+			return copy;
+		}
+	}
 }
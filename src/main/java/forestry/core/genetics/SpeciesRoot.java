@@ -10,11 +10,17 @@
  ******************************************************************************/
 package forestry.core.genetics;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableMap;
+
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -81,32 +87,75 @@ public abstract class SpeciesRoot implements ISpeciesRoot {
 	}
 
 	/* MUTATIONS */
-	@Override
-	public Collection<? extends IMutation> getCombinations(IAllele other) {
-		ArrayList<IMutation> combinations = new ArrayList<>();
-		for (IMutation mutation : getMutations(false)) {
-			if (mutation.isPartner(other)) {
-				combinations.add(mutation);
+	/**
+	 * Immutable snapshot of the registered mutations, keyed by species UID and then by partner species UID.
+	 * Rebuilt whenever the number of registered mutations changes.
+	 */
+	private volatile MutationIndex mutationIndex;
+
+	private MutationIndex getMutationIndex() {
+		Collection<? extends IMutation> mutations = getMutations(false);
+		MutationIndex index = mutationIndex;
+		if (index == null || index.mutationCount != mutations.size()) {
+			synchronized (this) {
+				index = mutationIndex;
+				if (index == null || index.mutationCount != mutations.size()) {
+					index = new MutationIndex(mutations, index);
+					mutationIndex = index;
+				}
 			}
 		}
+		return index;
+	}
 
-		return combinations;
+	/**
+	 * Mutation ids are assigned in registration order and never change while the game is running,
+	 * they are not saved because they differ between installations.
+	 *
+	 * @return The id of the registered mutation, or -1 if it isn't registered.
+	 */
+	public int getMutationId(IMutation mutation) {
+		Integer id = getMutationIndex().mutationIds.get(mutation);
+		return id != null ? id : -1;
+	}
+
+	/**
+	 * @return The number of assigned mutation ids, all ids are lower than this.
+	 */
+	public int getMutationIdCount() {
+		return getMutationIndex().mutationKeys.size();
+	}
+
+	/**
+	 * @return The key of the mutation with the id, as saved by the breeding trackers.
+	 */
+	public String getMutationKey(int mutationId) {
+		return getMutationIndex().mutationKeys.get(mutationId);
+	}
+
+	/**
+	 * @return The ids of all mutations with the key. Mutations that only differ in their conditions share a key.
+	 */
+	public List<Integer> getMutationIds(String mutationKey) {
+		return getMutationIndex().idsByKey.get(mutationKey);
+	}
+
+	@Override
+	public Collection<? extends IMutation> getCombinations(IAllele other) {
+		return getMutationIndex().bySpecies.get(other.getUID());
 	}
 
 	@Override
 	public List<IMutation> getCombinations(IAlleleSpecies parentSpecies0, IAlleleSpecies parentSpecies1, boolean shuffle) {
-		List<IMutation> combinations = new ArrayList<>();
-
-		String parentSpecies1UID = parentSpecies1.getUID();
-		for (IMutation mutation : getMutations(shuffle)) {
-			if (mutation.isPartner(parentSpecies0)) {
-				IAllele partner = mutation.getPartner(parentSpecies0);
-				if (partner != null && partner.getUID().equals(parentSpecies1UID)) {
-					combinations.add(mutation);
-				}
-			}
+		ImmutableListMultimap<String, IMutation> byPartner = getMutationIndex().byPair.get(parentSpecies0.getUID());
+		if (byPartner == null) {
+			return new ArrayList<>();
 		}
 
+		List<IMutation> combinations = new ArrayList<>(byPartner.get(parentSpecies1.getUID()));
+		if (shuffle) {
+			Collections.shuffle(combinations);
+		}
 		return combinations;
 	}
 
@@ -146,4 +195,69 @@ public abstract class SpeciesRoot implements ISpeciesRoot {
 
 		return chromosomes;
 	}
+
+	private static class MutationIndex {
+		private final int mutationCount;
+		private final ImmutableListMultimap<String, IMutation> bySpecies;
+		private final ImmutableMap<String, ImmutableListMultimap<String, IMutation>> byPair;
+		private final Map<IMutation, Integer> mutationIds;
+		private final ImmutableList<String> mutationKeys;
+		private final ImmutableListMultimap<String, Integer> idsByKey;
+
+		public MutationIndex(Collection<? extends IMutation> mutations, @Nullable MutationIndex previous) {
+			this.mutationCount = mutations.size();
+
+			// ids of known mutations are kept, the mutation lists get shuffled in place
+			Map<IMutation, Integer> mutationIds = new IdentityHashMap<>();
+			List<String> mutationKeys = new ArrayList<>();
+			if (previous != null) {
+				mutationIds.putAll(previous.mutationIds);
+				mutationKeys.addAll(previous.mutationKeys);
+			}
+			for (IMutation mutation : mutations) {
+				if (!mutationIds.containsKey(mutation)) {
+					mutationIds.put(mutation, mutationKeys.size());
+					mutationKeys.add(BreedingTracker.getMutationString(mutation));
+				}
+			}
+			this.mutationIds = mutationIds;
+			this.mutationKeys = ImmutableList.copyOf(mutationKeys);
+
+			ImmutableListMultimap.Builder<String, Integer> idsByKey = ImmutableListMultimap.builder();
+			for (int id = 0; id < mutationKeys.size(); id++) {
+				idsByKey.put(mutationKeys.get(id), id);
+			}
+			this.idsByKey = idsByKey.build();
+
+			ImmutableListMultimap.Builder<String, IMutation> bySpecies = ImmutableListMultimap.builder();
+			Map<String, ImmutableListMultimap.Builder<String, IMutation>> byPair = new HashMap<>();
+			for (IMutation mutation : mutations) {
+				String species0 = mutation.getAllele0().getUID();
+				String species1 = mutation.getAllele1().getUID();
+
+				bySpecies.put(species0, mutation);
+				getBuilder(byPair, species0).put(species1, mutation);
+				if (!species0.equals(species1)) {
+					bySpecies.put(species1, mutation);
+					getBuilder(byPair, species1).put(species0, mutation);
+				}
+			}
+			this.bySpecies = bySpecies.build();
+
+			ImmutableMap.Builder<String, ImmutableListMultimap<String, IMutation>> byPairBuilder = ImmutableMap.builder();
+			for (Map.Entry<String, ImmutableListMultimap.Builder<String, IMutation>> entry : byPair.entrySet()) {
+				byPairBuilder.put(entry.getKey(), entry.getValue().build());
+			}
+			this.byPair = byPairBuilder.build();
+		}
+
+		private static ImmutableListMultimap.Builder<String, IMutation> getBuilder(Map<String, ImmutableListMultimap.Builder<String, IMutation>> byPair, String species) {
+			ImmutableListMultimap.Builder<String, IMutation> builder = byPair.get(species);
+			if (builder == null) {
+				builder = ImmutableListMultimap.builder();
+				byPair.put(species, builder);
+			}
+			return builder;
+		}
+	}
 }
@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.genetics.alleles;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.nbt.NBTTagString;
+import net.minecraft.world.WorldSavedData;
+
+import forestry.api.genetics.AlleleManager;
+import forestry.api.genetics.IAllele;
+
+/**
+ * Allele ids that stay stable for one save, used by the compact genome NBT format.
+ * New alleles are appended, so ids written into stacks never change meaning.
+ */
+public class AlleleIdMap extends WorldSavedData {
+
+	public static final String SAVE_NAME = "ForestryAlleleIds";
+	private static final String UIDS_TAG = "UIDs";
+
+	private final List<String> uids = new ArrayList<>();
+	private final Map<String, Integer> ids = new HashMap<>();
+	@Nullable
+	private IAllele[] alleles;
+
+	public AlleleIdMap() {
+		super(SAVE_NAME);
+	}
+
+	@SuppressWarnings("unused") // required for WorldSavedData
+	public AlleleIdMap(String s) {
+		super(s);
+	}
+
+	/**
+	 * Gives every allele that does not have a saved id yet a new one.
+	 */
+	public synchronized void addAlleles(Collection<IAllele> newAlleles) {
+		for (IAllele allele : newAlleles) {
+			String uid = allele.getUID();
+			if (!ids.containsKey(uid)) {
+				ids.put(uid, uids.size());
+				uids.add(uid);
+				alleles = null;
+				markDirty();
+			}
+		}
+	}
+
+	/**
+	 * @return the saved id of the allele, or -1 if it has none.
+	 */
+	public synchronized int getId(IAllele allele) {
+		Integer id = ids.get(allele.getUID());
+		if (id == null) {
+			return -1;
+		}
+		return id;
+	}
+
+	@Nullable
+	public synchronized IAllele getAllele(int id) {
+		if (id < 0 || id >= uids.size()) {
+			return null;
+		}
+
+		if (alleles == null) {
+			alleles = new IAllele[uids.size()];
+			for (int i = 0; i < alleles.length; i++) {
+				alleles[i] = AlleleManager.alleleRegistry.getAllele(uids.get(i));
+			}
+		}
+		return alleles[id];
+	}
+
+	@Override
+	public synchronized void readFromNBT(NBTTagCompound nbttagcompound) {
+		uids.clear();
+		ids.clear();
+		alleles = null;
+
+		NBTTagList nbttaglist = nbttagcompound.getTagList(UIDS_TAG, 8);
+		for (int i = 0; i < nbttaglist.tagCount(); i++) {
+			String uid = nbttaglist.getStringTagAt(i);
+			ids.put(uid, uids.size());
+			uids.add(uid);
+		}
+	}
+
+	@Override
+	public synchronized NBTTagCompound writeToNBT(NBTTagCompound nbttagcompound) {
+		NBTTagList nbttaglist = new NBTTagList();
+		for (String uid : uids) {
+			nbttaglist.appendTag(new NBTTagString(uid));
+		}
+		nbttagcompound.setTag(UIDS_TAG, nbttaglist);
+		return nbttagcompound;
+	}
+}
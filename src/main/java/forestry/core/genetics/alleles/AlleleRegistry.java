@@ -12,14 +12,17 @@ package forestry.core.genetics.alleles;
 
 import com.google.common.collect.HashMultimap;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
 import net.minecraft.item.ItemStack;
+import net.minecraft.world.World;
 
 import com.mojang.authlib.GameProfile;
 
@@ -105,6 +108,9 @@ public class AlleleRegistry implements IAlleleRegistry {
 
 	/* ALLELES */
 	private final LinkedHashMap<String, IAllele> alleleMap = new LinkedHashMap<>(ALLELE_ARRAY_SIZE);
+	private final Map<String, Integer> alleleIds = new HashMap<>(ALLELE_ARRAY_SIZE);
+	@Nullable
+	private volatile AlleleIdMap savedAlleleIds;
 	private final HashMultimap<IChromosomeType, IAllele> allelesByType = HashMultimap.create();
 	private final HashMultimap<IAllele, IChromosomeType> typesByAllele = HashMultimap.create();
 	private final LinkedHashMap<String, IAllele> deprecatedAlleleMap = new LinkedHashMap<>(32);
@@ -155,6 +161,9 @@ public class AlleleRegistry implements IAlleleRegistry {
 		}
 
 		alleleMap.put(allele.getUID(), allele);
+		if (!alleleIds.containsKey(allele.getUID())) {
+			alleleIds.put(allele.getUID(), alleleIds.size());
+		}
 		if (allele instanceof IAlleleSpecies) {
 			IClassification branch = ((IAlleleSpecies) allele).getBranch();
 			if (branch != null) {
@@ -187,6 +196,41 @@ public class AlleleRegistry implements IAlleleRegistry {
 		return allele;
 	}
 
+	/**
+	 * @return a dense id for the registered allele, or -1 if it is not registered.
+	 * These ids only last for this session, use {@link #getSavedAlleleIds()} for ids that are written to NBT.
+	 */
+	public int getAlleleId(IAllele allele) {
+		Integer alleleId = alleleIds.get(allele.getUID());
+		if (alleleId == null) {
+			return -1;
+		}
+		return alleleId;
+	}
+
+	/**
+	 * @return the allele ids saved with the current world, or null if no world is loaded.
+	 */
+	@Nullable
+	public AlleleIdMap getSavedAlleleIds() {
+		return savedAlleleIds;
+	}
+
+	public void setSavedAlleleIds(@Nullable AlleleIdMap savedAlleleIds) {
+		this.savedAlleleIds = savedAlleleIds;
+	}
+
+	public void loadSavedAlleleIds(World world) {
+		AlleleIdMap idMap = (AlleleIdMap) world.loadItemData(AlleleIdMap.class, AlleleIdMap.SAVE_NAME);
+		if (idMap == null) {
+			idMap = new AlleleIdMap();
+			world.setItemData(AlleleIdMap.SAVE_NAME, idMap);
+		}
+		// all alleles get their ids up front, so the mapping synced to clients on login is complete
+		idMap.addAlleles(alleleMap.values());
+		savedAlleleIds = idMap;
+	}
+
 	@Override
 	public Collection<IAllele> getRegisteredAlleles(IChromosomeType type) {
 		return Collections.unmodifiableSet(allelesByType.get(type));
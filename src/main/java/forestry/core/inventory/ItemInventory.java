@@ -11,6 +11,7 @@
 package forestry.core.inventory;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.Random;
 
 import net.minecraft.entity.player.EntityPlayer;
@@ -74,6 +75,18 @@ public abstract class ItemInventory implements IInventory, IFilterSlotDelegate,
 		}
 	}
 
+	/**
+	 * @return the NBT holding the stored contents of this item, or null if there is none.
+	 */
+	@Nullable
+	public static NBTTagCompound getSlotsNbt(ItemStack itemStack) {
+		NBTTagCompound nbt = itemStack.getTagCompound();
+		if (nbt == null || !nbt.hasKey(KEY_SLOTS)) {
+			return null;
+		}
+		return nbt.getCompoundTag(KEY_SLOTS);
+	}
+
 	public boolean isParentItemInventory(ItemStack itemStack) {
 		ItemStack parent = getParent();
 		return isSameItemInventory(parent, itemStack);
@@ -11,9 +11,13 @@
 package forestry.core.models;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.Collections;
 import java.util.List;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.client.renderer.block.model.BakedQuad;
@@ -37,12 +41,33 @@ import forestry.core.blocks.propertys.UnlistedBlockPos;
 import forestry.core.models.baker.ModelBaker;
 
 public abstract class ModelBlockDefault<B extends Block> implements IBakedModel {
+	/**
+	 * Upper bound of distinct world and inventory models kept per model, least recently used ones are dropped first.
+	 */
+	private static final int MAX_CACHED_MODELS = 256;
+
 	private ItemOverrideList overrideList;
 	@Nonnull
 	protected final Class<B> blockClass;
-	
-	protected IModelBakerModel blockModel;
-	protected IModelBakerModel itemModel;
+
+	/**
+	 * Baked world models by the key from {@link #getWorldKey}. Chunk builder threads share this cache.
+	 */
+	private final Cache<Object, IModelBakerModel> worldModels = CacheBuilder.newBuilder()
+			.maximumSize(MAX_CACHED_MODELS)
+			.build();
+	/**
+	 * Baked inventory models by the key from {@link #getInventoryKey}.
+	 */
+	private final Cache<Object, IModelBakerModel> inventoryModels = CacheBuilder.newBuilder()
+			.maximumSize(MAX_CACHED_MODELS)
+			.build();
+
+	/**
+	 * The last baked models, only used for the model properties that are not position dependent.
+	 */
+	protected volatile IModelBakerModel blockModel;
+	protected volatile IModelBakerModel itemModel;
 
 	protected ModelBlockDefault(@Nonnull Class<B> blockClass) {
 		this.blockClass = blockClass;
@@ -51,7 +76,6 @@ public abstract class ModelBlockDefault<B extends Block> implements IBakedModel
 	@Override
 	public List<BakedQuad> getQuads(IBlockState state, EnumFacing side, long rand) {
 		if(state instanceof IExtendedBlockState){
-			IModelBaker baker = new ModelBaker();
 			IExtendedBlockState stateExtended = (IExtendedBlockState) state;
 	
 			IBlockAccess world = stateExtended.getValue(UnlistedBlockAccess.BLOCKACCESS);
@@ -61,16 +85,54 @@ public abstract class ModelBlockDefault<B extends Block> implements IBakedModel
 				return null;
 			}
 			B bBlock = blockClass.cast(block);
-	
-			baker.setRenderBounds(block.getBoundingBox(state, world, pos));
-			bakeWorldBlock(bBlock, world, pos, stateExtended, baker);
-	
-			blockModel = baker.bakeModel(false);
-			return blockModel.getQuads(state, side, rand);
+
+			Object key = getWorldKey(bBlock, world, pos, stateExtended);
+			IModelBakerModel model = key != null ? worldModels.getIfPresent(key) : null;
+			if (model == null) {
+				// cull against the same world getWorldKey read the visible sides from
+				IModelBaker baker = new ModelBaker(world);
+				baker.setRenderBounds(block.getBoundingBox(state, world, pos));
+				bakeWorldBlock(bBlock, world, pos, stateExtended, baker);
+				model = baker.bakeModel(false);
+				if (key != null) {
+					worldModels.put(key, model);
+				}
+			}
+
+			blockModel = model;
+			return model.getQuads(state, side, rand);
 		}
 		return Collections.emptyList();
 	}
 
+	@Nullable
+	protected IModelBakerModel getCachedWorldModel(@Nonnull Object key) {
+		return worldModels.getIfPresent(key);
+	}
+
+	protected void cacheWorldModel(@Nonnull Object key, @Nonnull IModelBakerModel model) {
+		worldModels.put(key, model);
+	}
+
+	@Nullable
+	protected IModelBakerModel getCachedInventoryModel(@Nonnull Object key) {
+		return inventoryModels.getIfPresent(key);
+	}
+
+	protected void cacheInventoryModel(@Nonnull Object key, @Nonnull IModelBakerModel model) {
+		inventoryModels.put(key, model);
+	}
+
+	/**
+	 * Drops all cached models, called when the models and textures get reloaded.
+	 */
+	public void invalidateCaches() {
+		worldModels.invalidateAll();
+		inventoryModels.invalidateAll();
+		blockModel = null;
+		itemModel = null;
+	}
+
 	@Override
 	public boolean isAmbientOcclusion() {
 		if(itemModel == null && blockModel == null) {
@@ -125,8 +187,26 @@ public abstract class ModelBlockDefault<B extends Block> implements IBakedModel
 
 	protected abstract void bakeInventoryBlock(@Nonnull B block, @Nonnull ItemStack item, @Nonnull IModelBaker baker);
 
+	/**
+	 * Returns a key that identifies everything {@link #bakeInventoryBlock} reads from the stack.
+	 * Stacks with equal keys share one baked model. Returns null if the model can not be cached.
+	 */
+	@Nullable
+	protected Object getInventoryKey(@Nonnull B block, @Nonnull ItemStack item) {
+		return null;
+	}
+
 	protected abstract void bakeWorldBlock(@Nonnull B block, @Nonnull IBlockAccess world, @Nonnull BlockPos pos, @Nonnull IExtendedBlockState stateExtended, @Nonnull IModelBaker baker);
 
+	/**
+	 * Returns a key that identifies everything {@link #bakeWorldBlock} reads for this position, including the render bounds.
+	 * Positions with equal keys share one baked model. Returns null if the model can not be cached.
+	 */
+	@Nullable
+	protected Object getWorldKey(@Nonnull B block, @Nonnull IBlockAccess world, @Nonnull BlockPos pos, @Nonnull IExtendedBlockState stateExtended) {
+		return null;
+	}
+
 	private class DefaultItemOverrideList extends ItemOverrideList {
 		public DefaultItemOverrideList() {
 			super(Collections.emptyList());
@@ -134,17 +214,25 @@ public abstract class ModelBlockDefault<B extends Block> implements IBakedModel
 		
 		@Override
 		public IBakedModel handleItemState(IBakedModel originalModel, ItemStack stack, World world, EntityLivingBase entity) {
-			IModelBaker baker = new ModelBaker();
 			Block block = Block.getBlockFromItem(stack.getItem());
 			if (!blockClass.isInstance(block)) {
 				return null;
 			}
 			B bBlock = blockClass.cast(block);
 
-			baker.setRenderBounds(block.getBoundingBox(block.getStateFromMeta(stack.getItemDamage()), world, null));
-			bakeInventoryBlock(bBlock, stack, baker);
+			Object key = getInventoryKey(bBlock, stack);
+			IModelBakerModel model = key != null ? inventoryModels.getIfPresent(key) : null;
+			if (model == null) {
+				IModelBaker baker = new ModelBaker();
+				baker.setRenderBounds(block.getBoundingBox(block.getStateFromMeta(stack.getItemDamage()), world, null));
+				bakeInventoryBlock(bBlock, stack, baker);
+				model = baker.bakeModel(true);
+				if (key != null) {
+					inventoryModels.put(key, model);
+				}
+			}
 
-			return itemModel = baker.bakeModel(true);
+			return itemModel = model;
 		}
 	}
 }
@@ -261,6 +261,10 @@ public class ModelManager implements IModelManager {
 	public void registerCustomModels(ModelBakeEvent event) {
 		IRegistry<ModelResourceLocation, IBakedModel> registry = event.getModelRegistry();
 		for (final BlockModelIndex index : customBlockModels) {
+			// models are baked again after the textures got stitched, cached quads point to old sprites
+			if (index.model instanceof ModelBlockDefault) {
+				((ModelBlockDefault) index.model).invalidateCaches();
+			}
 			registry.putObject(index.blockModelLocation, index.model);
 			registry.putObject(index.itemModelLocation, index.model);
 		}
@@ -30,7 +30,7 @@ import net.minecraft.client.renderer.texture.TextureAtlasSprite;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.EnumFacing;
-import net.minecraft.world.World;
+import net.minecraft.world.IBlockAccess;
 import net.minecraftforge.common.model.IModelState;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
@@ -58,6 +58,20 @@ public class ModelBaker implements IModelBaker {
 
 	protected final float[] defUVs = new float[] { 0, 0, 1, 1 };
 
+	/**
+	 * The world hidden sides of block models are culled against, or null for the render world.
+	 */
+	@Nullable
+	protected final IBlockAccess world;
+
+	public ModelBaker() {
+		this(null);
+	}
+
+	public ModelBaker(@Nullable IBlockAccess world) {
+		this.world = world;
+	}
+
 	@Override
 	public void setRenderBounds(@Nonnull AxisAlignedBB renderBounds) {
 		if (renderBounds == null) {
@@ -104,7 +118,7 @@ public class ModelBaker implements IModelBaker {
 		setColorIndex(colorIndex);
 		
 		if(pos != null){
-			World world = Proxies.common.getRenderWorld();
+			IBlockAccess world = this.world != null ? this.world : Proxies.common.getRenderWorld();
 			IBlockState blockState = world.getBlockState(pos);
 			for (EnumFacing facing : EnumFacing.VALUES) {
 				if (block.shouldSideBeRendered(blockState, world, pos, facing)) {
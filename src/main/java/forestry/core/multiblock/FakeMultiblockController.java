@@ -67,6 +67,16 @@ public abstract class FakeMultiblockController implements IMultiblockControllerI
 
 	}
 
+	@Override
+	public long getSleepUntil() {
+		return 0;
+	}
+
+	@Override
+	public void wakeUp() {
+
+	}
+
 	@Override
 	public BlockPos getReferenceCoord() {
 		return null;
@@ -80,6 +80,18 @@ public interface IMultiblockControllerInternal extends IMultiblockController, IN
 	 */
 	void updateMultiblockEntity();
 
+	/**
+	 * @return The world time until which this machine does not need to be updated,
+	 * Long.MAX_VALUE if it sleeps until woken up, or 0 if it is awake.
+	 */
+	long getSleepUntil();
+
+	/**
+	 * Resume updating this machine on the next tick.
+	 * Called when something the machine may react to has changed, e.g. its parts or inventory.
+	 */
+	void wakeUp();
+
 	/**
 	 * @return The reference coordinate, the block with the lowest x, y, z coordinates, evaluated in that order.
 	 */
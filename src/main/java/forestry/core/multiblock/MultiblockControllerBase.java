@@ -34,6 +34,9 @@ public abstract class MultiblockControllerBase implements IMultiblockControllerI
 	// Ticks
 	private static final Random rand = new Random();
 	private int tickCount = rand.nextInt(256);
+
+	// Scheduling - the world time until which this controller does not need to be updated, 0 while awake
+	private long sleepUntil = 0;
 	
 	// Disassembled -> Assembled; Assembled -> Disassembled OR Paused; Paused -> Assembled
 	protected enum AssemblyState {
@@ -414,7 +417,8 @@ public abstract class MultiblockControllerBase implements IMultiblockControllerI
 		}
 
 		if (onlyUpdateWhenAssembled() && this.assemblyState != AssemblyState.Assembled) {
-			// Not assembled - don't run game logic
+			// Not assembled - don't run game logic until our parts change
+			sleepUntilWoken();
 			return;
 		}
 
@@ -460,6 +464,34 @@ public abstract class MultiblockControllerBase implements IMultiblockControllerI
 	protected final boolean updateOnInterval(int tickInterval) {
 		return tickCount % tickInterval == 0;
 	}
+
+	/**
+	 * Stop updating this machine for the given number of ticks, or until it is woken up.
+	 * Call from the update loop when there is nothing to do for a while.
+	 */
+	protected final void sleep(int ticks) {
+		sleepUntil = worldObj.getTotalWorldTime() + ticks;
+	}
+
+	/**
+	 * Stop updating this machine until it is woken up by a part, inventory or neighbor change.
+	 */
+	protected final void sleepUntilWoken() {
+		sleepUntil = Long.MAX_VALUE;
+	}
+
+	@Override
+	public final long getSleepUntil() {
+		return sleepUntil;
+	}
+
+	@Override
+	public final void wakeUp() {
+		if (sleepUntil != 0) {
+			sleepUntil = 0;
+			MultiblockRegistry.wakeController(worldObj, this);
+		}
+	}
 	
 	// Validation helpers
 
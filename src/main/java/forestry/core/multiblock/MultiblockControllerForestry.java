@@ -114,6 +114,7 @@ public abstract class MultiblockControllerForestry extends MultiblockControllerB
 	@Override
 	public void markDirty() {
 		getInternalInventory().markDirty();
+		wakeUp();
 	}
 
 	@Override
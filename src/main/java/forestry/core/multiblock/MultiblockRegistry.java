@@ -104,6 +104,17 @@ public class MultiblockRegistry {
 		}
 	}
 
+	/**
+	 * Call to wake up a sleeping controller. It will be updated again from the next world tick on.
+	 * @param world The world containing the multiblock
+	 * @param controller The controller to wake up
+	 */
+	public static void wakeController(World world, IMultiblockControllerInternal controller) {
+		if (registries.containsKey(world)) {
+			registries.get(world).wakeController(controller);
+		}
+	}
+
 	/**
 	 * @param world The world whose controllers you wish to retrieve.
 	 * @return An unmodifiable set of controllers active in the given world, or null if there are none.
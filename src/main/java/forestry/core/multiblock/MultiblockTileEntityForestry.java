@@ -85,6 +85,18 @@ public abstract class MultiblockTileEntityForestry<T extends IMultiblockLogic> e
 		return false;
 	}
 
+	@Override
+	public void markDirty() {
+		super.markDirty();
+
+		// our contents changed, a sleeping machine may have work to do now
+		T logic = getMultiblockLogic();
+		if (logic.isConnected()) {
+			IMultiblockControllerInternal controller = (IMultiblockControllerInternal) logic.getController();
+			controller.wakeUp();
+		}
+	}
+
 	@Override
 	public final int getSizeInventory() {
 		return getInternalInventory().getSizeInventory();
@@ -6,6 +6,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.PriorityQueue;
 import java.util.Set;
 
 import net.minecraft.tileentity.TileEntity;
@@ -33,6 +34,13 @@ public class MultiblockWorldRegistry {
 	private final Set<IMultiblockControllerInternal> dirtyControllers;    // Controllers whose parts lists have changed
 	private final Set<IMultiblockControllerInternal> deadControllers;    // Controllers which are empty
 
+	// Controllers which are updated every tick
+	private final Set<IMultiblockControllerInternal> awakeControllers;
+	// Controllers which went to sleep until a given world time, ordered by that time
+	private final PriorityQueue<SleepingController> sleepingControllers;
+	// Controllers which have been woken up since the last tick. Applied before ticking, so controllers may wake each other while updating.
+	private final Set<IMultiblockControllerInternal> wokenControllers;
+
 	// A list of orphan parts - parts which currently have no master, but should seek one this tick
 	// Indexed by the hashed chunk coordinate
 	// This can be added-to asynchronously via chunk loads!
@@ -57,6 +65,10 @@ public class MultiblockWorldRegistry {
 		controllers = new HashSet<>();
 		deadControllers = new HashSet<>();
 		dirtyControllers = new HashSet<>();
+
+		awakeControllers = new HashSet<>();
+		sleepingControllers = new PriorityQueue<>();
+		wokenControllers = new HashSet<>();
 		
 		detachedParts = new HashSet<>();
 		orphanedParts = new HashSet<>();
@@ -70,8 +82,12 @@ public class MultiblockWorldRegistry {
 	 * Called before Tile Entities are ticked in the world. Run game logic.
 	 */
 	public void tickStart() {
-		if (!controllers.isEmpty()) {
-			for (IMultiblockControllerInternal controller : controllers) {
+		long worldTime = worldObj.getTotalWorldTime();
+		wakeControllers(worldTime);
+
+		if (!awakeControllers.isEmpty()) {
+			List<IMultiblockControllerInternal> fallingAsleep = null;
+			for (IMultiblockControllerInternal controller : awakeControllers) {
 				if (controller.getWorldObj() == worldObj && controller.getWorldObj().isRemote == worldObj.isRemote) {
 					if (controller.isEmpty()) {
 						// This happens on the server when the user breaks the last block. It's fine.
@@ -80,11 +96,53 @@ public class MultiblockWorldRegistry {
 					} else {
 						// Run the game logic for this world
 						controller.updateMultiblockEntity();
+						if (controller.getSleepUntil() > worldTime) {
+							if (fallingAsleep == null) {
+								fallingAsleep = new ArrayList<>();
+							}
+							fallingAsleep.add(controller);
+						}
+					}
+				}
+			}
+
+			if (fallingAsleep != null) {
+				for (IMultiblockControllerInternal controller : fallingAsleep) {
+					// Controllers woken up again during this tick stay awake
+					long sleepUntil = controller.getSleepUntil();
+					if (sleepUntil > worldTime) {
+						awakeControllers.remove(controller);
+						if (sleepUntil != Long.MAX_VALUE) {
+							sleepingControllers.add(new SleepingController(controller, sleepUntil));
+						}
 					}
 				}
 			}
 		}
 	}
+
+	/**
+	 * Moves controllers that were woken up or whose sleep time is over back into the set of updated controllers.
+	 */
+	private void wakeControllers(long worldTime) {
+		while (!sleepingControllers.isEmpty() && sleepingControllers.peek().wakeTime <= worldTime) {
+			SleepingController sleeping = sleepingControllers.poll();
+			IMultiblockControllerInternal controller = sleeping.controller;
+			// Skip stale entries of controllers that were woken up early or went back to sleep
+			if (controller.getSleepUntil() == sleeping.wakeTime) {
+				controller.wakeUp();
+			}
+		}
+
+		if (!wokenControllers.isEmpty()) {
+			for (IMultiblockControllerInternal controller : wokenControllers) {
+				if (controllers.contains(controller)) {
+					awakeControllers.add(controller);
+				}
+			}
+			wokenControllers.clear();
+		}
+	}
 	
 	/**
 	 * Called prior to processing multiblock controllers. Do bookkeeping.
@@ -140,6 +198,7 @@ public class MultiblockWorldRegistry {
 						IMultiblockControllerInternal newController = logic.createNewController(worldObj);
 						newController.attachBlock(orphan);
 						this.controllers.add(newController);
+						this.awakeControllers.add(newController);
 					} else if (compatibleControllers.size() > 1) {
 						if (mergePools == null) {
 							mergePools = new ArrayList<>();
@@ -221,6 +280,9 @@ public class MultiblockWorldRegistry {
 				// POSTCONDITION: The controller must have informed those parts that
 				// they are no longer connected to this machine.
 				Set<IMultiblockComponent> newlyDetachedParts = controller.checkForDisconnections();
+
+				// Our parts changed, the machine must react to it
+				controller.wakeUp();
 				
 				if (!controller.isEmpty()) {
 					controller.recalculateMinMaxCoords();
@@ -250,6 +312,8 @@ public class MultiblockWorldRegistry {
 
 				// THIS IS THE ONLY PLACE WHERE CONTROLLERS ARE UNREGISTERED.
 				this.controllers.remove(controller);
+				this.awakeControllers.remove(controller);
+				this.wokenControllers.remove(controller);
 			}
 			
 			deadControllers.clear();
@@ -371,6 +435,9 @@ public class MultiblockWorldRegistry {
 	 */
 	public void onWorldUnloaded() {
 		controllers.clear();
+		awakeControllers.clear();
+		sleepingControllers.clear();
+		wokenControllers.clear();
 		deadControllers.clear();
 		dirtyControllers.clear();
 		
@@ -428,6 +495,15 @@ public class MultiblockWorldRegistry {
 		this.dirtyControllers.add(dirtyController);
 	}
 	
+	/**
+	 * Registers a sleeping controller as awake. It will be updated again from the next world tick on.
+	 *
+	 * @param controller The controller which has been woken up.
+	 */
+	public void wakeController(IMultiblockControllerInternal controller) {
+		this.wokenControllers.add(controller);
+	}
+
 	/**
 	 * Use this only if you know what you're doing. You should rarely need to iterate
 	 * over all controllers in a world!
@@ -451,4 +527,19 @@ public class MultiblockWorldRegistry {
 			orphanedParts.addAll(parts);
 		}
 	}
+
+	private static class SleepingController implements Comparable<SleepingController> {
+		private final IMultiblockControllerInternal controller;
+		private final long wakeTime;
+
+		public SleepingController(IMultiblockControllerInternal controller, long wakeTime) {
+			this.controller = controller;
+			this.wakeTime = wakeTime;
+		}
+
+		@Override
+		public int compareTo(SleepingController other) {
+			return Long.compare(wakeTime, other.wakeTime);
+		}
+	}
 }
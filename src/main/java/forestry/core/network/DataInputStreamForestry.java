@@ -18,8 +18,6 @@ import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fluids.FluidStack;
 
-import forestry.core.utils.ItemStackUtil;
-
 public class DataInputStreamForestry extends DataInputStream {
 
 	public DataInputStreamForestry(InputStream in) {
@@ -28,10 +26,14 @@ public class DataInputStreamForestry extends DataInputStream {
 
 	public ItemStack readItemStack() throws IOException {
 		ItemStack itemstack = null;
-		String itemName = readUTF();
+		int itemId = readVarInt();
 
-		if (!itemName.isEmpty()) {
-			Item item = ItemStackUtil.getItemFromRegistry(itemName);
+		if (itemId != 0) {
+			Item item = Item.getItemById(itemId - 1);
+			if (item == null) {
+				// the rest of the stack can't be skipped without knowing whether the item shares its tag
+				throw new InvalidObjectException("Unknown item id " + (itemId - 1));
+			}
 			int stackSize = readVarInt();
 			int meta = readVarInt();
 			itemstack = new ItemStack(item, stackSize, meta);
@@ -7,25 +7,28 @@ import java.util.Collection;
 import java.util.List;
 
 import net.minecraft.inventory.IInventory;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompressedStreamTools;
 import net.minecraft.nbt.NBTTagCompound;
 
 import net.minecraftforge.fluids.FluidStack;
 
-import forestry.core.utils.ItemStackUtil;
-
 public class DataOutputStreamForestry extends DataOutputStream {
 
 	public DataOutputStreamForestry(OutputStream out) {
 		super(out);
 	}
 
+	/**
+	 * Items are written as their numeric id instead of their registry name.
+	 * FML syncs the item id mapping to every client when it connects, so the id means the same item on both sides.
+	 */
 	public void writeItemStack(ItemStack itemstack) throws IOException {
 		if (itemstack == null) {
-			writeUTF("");
+			writeVarInt(0);
 		} else {
-			writeUTF(ItemStackUtil.getItemNameFromRegistryAsString(itemstack.getItem()));
+			writeVarInt(Item.getIdFromItem(itemstack.getItem()) + 1);
 			writeVarInt(itemstack.stackSize);
 			writeVarInt(itemstack.getItemDamage());
 
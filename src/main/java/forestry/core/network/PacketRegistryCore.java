@@ -14,6 +14,7 @@ import forestry.core.network.packets.PacketAccessSwitch;
 import forestry.core.network.packets.PacketAccessSwitchEntity;
 import forestry.core.network.packets.PacketAccessUpdate;
 import forestry.core.network.packets.PacketAccessUpdateEntity;
+import forestry.core.network.packets.PacketAlleleIdSync;
 import forestry.core.network.packets.PacketChipsetClick;
 import forestry.core.network.packets.PacketErrorUpdate;
 import forestry.core.network.packets.PacketErrorUpdateEntity;
@@ -30,6 +31,7 @@ import forestry.core.network.packets.PacketSocketUpdate;
 import forestry.core.network.packets.PacketSolderingIronClick;
 import forestry.core.network.packets.PacketTankLevelUpdate;
 import forestry.core.network.packets.PacketTileStream;
+import forestry.core.network.packets.PacketTileStreamBatch;
 
 public class PacketRegistryCore extends PacketRegistry {
 	@Override
@@ -44,10 +46,12 @@ public class PacketRegistryCore extends PacketRegistry {
 		registerClientPacket(new PacketAccessUpdate());
 		registerClientPacket(new PacketAccessUpdateEntity());
 		registerClientPacket(new PacketTileStream());
+		registerClientPacket(new PacketTileStreamBatch());
 		registerClientPacket(new PacketItemStackDisplay());
 		registerClientPacket(new PacketFXSignal());
 		registerClientPacket(new PacketTankLevelUpdate());
 		registerClientPacket(new PacketGenomeTrackerSync());
+		registerClientPacket(new PacketAlleleIdSync());
 
 		registerServerPacket(new PacketGuiSelectRequest());
 		registerServerPacket(new PacketPipetteClick());
@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.network;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+
+import forestry.core.config.Config;
+import forestry.core.network.packets.PacketTileStreamBatch;
+import forestry.core.proxy.Proxies;
+import forestry.core.utils.Log;
+
+/**
+ * Collects the tiles that need a network update during a world tick,
+ * and sends them at the end of the tick as one packet per chunk.
+ */
+public class TileUpdateBatcher {
+
+	private final Map<World, Map<Long, Set<TileEntity>>> dirtyTiles = new HashMap<>();
+	/**
+	 * Length and hash of the last payload sent for each tile.
+	 */
+	private final Map<TileEntity, Long> sentPayloads = new WeakHashMap<>();
+
+	public <T extends TileEntity & IStreamable> void markDirty(T tile) {
+		World world = tile.getWorld();
+		if (!(world instanceof WorldServer)) {
+			return;
+		}
+
+		Map<Long, Set<TileEntity>> worldTiles = dirtyTiles.get(world);
+		if (worldTiles == null) {
+			worldTiles = new HashMap<>();
+			dirtyTiles.put(world, worldTiles);
+		}
+
+		BlockPos pos = tile.getPos();
+		long chunkKey = ChunkPos.chunkXZ2Int(pos.getX() >> 4, pos.getZ() >> 4);
+		Set<TileEntity> chunkTiles = worldTiles.get(chunkKey);
+		if (chunkTiles == null) {
+			chunkTiles = new LinkedHashSet<>();
+			worldTiles.put(chunkKey, chunkTiles);
+		}
+		chunkTiles.add(tile);
+	}
+
+	public void sendUpdates(World world) {
+		Map<Long, Set<TileEntity>> worldTiles = dirtyTiles.remove(world);
+		if (worldTiles == null) {
+			return;
+		}
+
+		for (Set<TileEntity> chunkTiles : worldTiles.values()) {
+			PacketTileStreamBatch packet = null;
+			for (TileEntity tile : chunkTiles) {
+				if (tile.isInvalid()) {
+					continue;
+				}
+
+				byte[] payload = writePayload(tile);
+				if (payload == null || !hasPayloadChanged(tile, payload)) {
+					continue;
+				}
+
+				if (packet == null) {
+					packet = new PacketTileStreamBatch(tile.getPos());
+				}
+				packet.addTile(tile.getPos(), payload);
+			}
+
+			if (packet != null) {
+				Proxies.net.sendNetworkPacket(packet, world);
+			}
+		}
+	}
+
+	public void onWorldUnloaded(World world) {
+		dirtyTiles.remove(world);
+	}
+
+	private static byte[] writePayload(TileEntity tile) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStreamForestry data = new DataOutputStreamForestry(bytes);
+		try {
+			((IStreamable) tile).writeData(data);
+			data.flush();
+		} catch (IOException e) {
+			Log.error("Failed to write tile update.", e);
+			return null;
+		}
+		return bytes.toByteArray();
+	}
+
+	private boolean hasPayloadChanged(TileEntity tile, byte[] payload) {
+		if (!Config.skipUnchangedTileUpdates) {
+			return true;
+		}
+
+		long payloadKey = (long) payload.length << 32 | Arrays.hashCode(payload) & 0xFFFFFFFFL;
+		Long lastPayloadKey = sentPayloads.put(tile, payloadKey);
+		return lastPayloadKey == null || lastPayloadKey != payloadKey;
+	}
+}
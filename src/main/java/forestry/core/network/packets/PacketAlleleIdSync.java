@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.network.packets;
+
+import java.io.IOException;
+
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.nbt.NBTTagCompound;
+
+import net.minecraftforge.fml.common.FMLCommonHandler;
+
+import forestry.api.genetics.AlleleManager;
+import forestry.core.genetics.alleles.AlleleIdMap;
+import forestry.core.genetics.alleles.AlleleRegistry;
+import forestry.core.network.DataInputStreamForestry;
+import forestry.core.network.IForestryPacketClient;
+import forestry.core.network.PacketIdClient;
+
+public class PacketAlleleIdSync extends PacketNBT implements IForestryPacketClient {
+
+	public PacketAlleleIdSync() {
+	}
+
+	public PacketAlleleIdSync(NBTTagCompound nbtTagCompound) {
+		super(nbtTagCompound);
+	}
+
+	@Override
+	public void onPacketData(DataInputStreamForestry data, EntityPlayer player) throws IOException {
+		// an integrated server shares its registry with the client, and already has the ids
+		if (FMLCommonHandler.instance().getMinecraftServerInstance() != null) {
+			return;
+		}
+
+		AlleleIdMap idMap = new AlleleIdMap();
+		idMap.readFromNBT(getTagCompound());
+		((AlleleRegistry) AlleleManager.alleleRegistry).setSavedAlleleIds(idMap);
+	}
+
+	@Override
+	public PacketIdClient getPacketId() {
+		return PacketIdClient.ALLELE_ID_UPDATE;
+	}
+}
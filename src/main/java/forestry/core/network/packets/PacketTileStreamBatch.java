@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.network.packets;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+import forestry.core.network.DataInputStreamForestry;
+import forestry.core.network.DataOutputStreamForestry;
+import forestry.core.network.IForestryPacketClient;
+import forestry.core.network.IStreamable;
+import forestry.core.network.PacketIdClient;
+import forestry.core.proxy.Proxies;
+
+/**
+ * Stream data of several tiles in one chunk, each written into its own length-prefixed frame.
+ */
+public class PacketTileStreamBatch extends PacketCoordinates implements IForestryPacketClient {
+
+	private final List<BlockPos> positions = new ArrayList<>();
+	private final List<byte[]> payloads = new ArrayList<>();
+
+	public PacketTileStreamBatch() {
+	}
+
+	public PacketTileStreamBatch(BlockPos chunkPos) {
+		super(chunkPos);
+	}
+
+	public void addTile(BlockPos pos, byte[] payload) {
+		positions.add(pos);
+		payloads.add(payload);
+	}
+
+	public boolean isEmpty() {
+		return positions.isEmpty();
+	}
+
+	@Override
+	protected void writeData(DataOutputStreamForestry data) throws IOException {
+		super.writeData(data);
+		data.writeVarInt(positions.size());
+		for (int i = 0; i < positions.size(); i++) {
+			BlockPos pos = positions.get(i);
+			byte[] payload = payloads.get(i);
+			data.writeVarInt(pos.getX());
+			data.writeVarInt(pos.getY());
+			data.writeVarInt(pos.getZ());
+			data.writeVarInt(payload.length);
+			data.write(payload);
+		}
+	}
+
+	@Override
+	public void readData(DataInputStreamForestry data) throws IOException {
+		super.readData(data);
+		// the registered handler instance is reused for every received packet
+		positions.clear();
+		payloads.clear();
+
+		int count = data.readVarInt();
+		for (int i = 0; i < count; i++) {
+			int posX = data.readVarInt();
+			int posY = data.readVarInt();
+			int posZ = data.readVarInt();
+			byte[] payload = new byte[data.readVarInt()];
+			data.readFully(payload);
+			addTile(new BlockPos(posX, posY, posZ), payload);
+		}
+	}
+
+	@Override
+	public void onPacketData(DataInputStreamForestry data, EntityPlayer player) throws IOException {
+		World world = Proxies.common.getRenderWorld();
+		for (int i = 0; i < positions.size(); i++) {
+			TileEntity tile = world.getTileEntity(positions.get(i));
+			if (tile instanceof IStreamable) {
+				DataInputStreamForestry tileData = new DataInputStreamForestry(new ByteArrayInputStream(payloads.get(i)));
+				((IStreamable) tile).readData(tileData);
+			}
+		}
+	}
+
+	@Override
+	public PacketIdClient getPacketId() {
+		return PacketIdClient.TILE_FORESTRY_UPDATE_BATCH;
+	}
+}
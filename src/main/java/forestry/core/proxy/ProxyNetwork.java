@@ -10,21 +10,50 @@
  ******************************************************************************/
 package forestry.core.proxy;
 
+import javax.annotation.Nullable;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.network.PacketBuffer;
 import net.minecraft.server.management.PlayerChunkMap;
+import net.minecraft.server.management.PlayerChunkMapEntry;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
 
 import net.minecraftforge.common.util.FakePlayer;
+import net.minecraftforge.fml.common.network.internal.FMLProxyPacket;
+import net.minecraftforge.fml.relauncher.ReflectionHelper;
 
 import forestry.Forestry;
 import forestry.core.network.IForestryPacketClient;
 import forestry.core.network.IForestryPacketServer;
 import forestry.core.network.ILocatedPacket;
+import forestry.core.network.IStreamable;
+import forestry.core.network.PacketHandler;
+import forestry.core.network.PacketIdClient;
+import forestry.core.network.TileUpdateBatcher;
+import forestry.core.utils.Log;
+
+import io.netty.buffer.ByteBuf;
 
 public class ProxyNetwork {
 
+	@Nullable
+	private static final Field chunkEntryPlayersField = getChunkEntryPlayersField();
+
+	private final long[] packetsSent = new long[PacketIdClient.VALUES.length];
+	private final long[] bytesSent = new long[PacketIdClient.VALUES.length];
+	private final TileUpdateBatcher tileUpdateBatcher = new TileUpdateBatcher();
+
+	/**
+	 * Sends the packet to all players watching its chunk.
+	 * The packet is only written once, every player gets a duplicate of the same buffer.
+	 */
 	public <P extends IForestryPacketClient & ILocatedPacket> void sendNetworkPacket(P packet, World world) {
 		if (packet == null || !(world instanceof WorldServer)) {
 			return;
@@ -36,24 +65,102 @@ public class ProxyNetwork {
 		int chunkX = packet.getPos().getX() >> 4;
 		int chunkZ = packet.getPos().getZ() >> 4;
 
-		for (Object playerObj : world.playerEntities) {
-			if (playerObj instanceof EntityPlayerMP) {
-				EntityPlayerMP player = (EntityPlayerMP) playerObj;
+		List<EntityPlayerMP> watchingPlayers = getWatchingPlayers(worldServer, playerManager, chunkX, chunkZ);
+		if (watchingPlayers.isEmpty()) {
+			return;
+		}
 
-				if (playerManager.isPlayerWatchingChunk(player, chunkX, chunkZ)) {
-					sendToPlayer(packet, player);
+		PacketIdClient packetId = packet.getPacketId();
+		ByteBuf payload = packet.getPacket().payload();
+		try {
+			for (EntityPlayerMP player : watchingPlayers) {
+				if (!(player instanceof FakePlayer)) {
+					// duplicates share the content but not the reader index, which is consumed while sending
+					FMLProxyPacket playerPacket = new FMLProxyPacket(new PacketBuffer(payload.duplicate().retain()), PacketHandler.channelId);
+					sendPacket(packetId, playerPacket, player);
 				}
 			}
+		} finally {
+			// every duplicate holds its own reference
+			payload.release();
 		}
 	}
 
+	/**
+	 * Queues a stream update of the tile, sent together with the other updates of its chunk at the end of the world tick.
+	 */
+	public <T extends TileEntity & IStreamable> void sendTileUpdate(T tile) {
+		tileUpdateBatcher.markDirty(tile);
+	}
+
+	public void sendTileUpdates(World world) {
+		tileUpdateBatcher.sendUpdates(world);
+	}
+
+	public void onWorldUnloaded(World world) {
+		tileUpdateBatcher.onWorldUnloaded(world);
+	}
+
 	public void sendToPlayer(IForestryPacketClient packet, EntityPlayer entityplayer) {
 		if (!(entityplayer instanceof EntityPlayerMP) || entityplayer instanceof FakePlayer) {
 			return;
 		}
 
 		EntityPlayerMP player = (EntityPlayerMP) entityplayer;
-		Forestry.packetHandler.sendPacket(packet.getPacket(), player);
+		sendPacket(packet.getPacketId(), packet.getPacket(), player);
+	}
+
+	private void sendPacket(PacketIdClient packetId, FMLProxyPacket packet, EntityPlayerMP player) {
+		packetsSent[packetId.ordinal()]++;
+		bytesSent[packetId.ordinal()] += packet.payload().readableBytes();
+		Forestry.packetHandler.sendPacket(packet, player);
+	}
+
+	/**
+	 * @return The number of packets with the given id sent to players since startup.
+	 */
+	public long getPacketsSent(PacketIdClient packetId) {
+		return packetsSent[packetId.ordinal()];
+	}
+
+	/**
+	 * @return The payload bytes of packets with the given id sent to players since startup.
+	 */
+	public long getBytesSent(PacketIdClient packetId) {
+		return bytesSent[packetId.ordinal()];
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<EntityPlayerMP> getWatchingPlayers(WorldServer world, PlayerChunkMap playerManager, int chunkX, int chunkZ) {
+		PlayerChunkMapEntry entry = playerManager.getEntry(chunkX, chunkZ);
+		if (entry == null || !entry.isSentToPlayers()) {
+			return Collections.emptyList();
+		}
+
+		if (chunkEntryPlayersField != null) {
+			try {
+				return (List<EntityPlayerMP>) chunkEntryPlayersField.get(entry);
+			} catch (IllegalAccessException ignored) {
+			}
+		}
+
+		List<EntityPlayerMP> watchingPlayers = new ArrayList<>();
+		for (EntityPlayer player : world.playerEntities) {
+			if (player instanceof EntityPlayerMP && entry.containsPlayer((EntityPlayerMP) player)) {
+				watchingPlayers.add((EntityPlayerMP) player);
+			}
+		}
+		return watchingPlayers;
+	}
+
+	@Nullable
+	private static Field getChunkEntryPlayersField() {
+		try {
+			return ReflectionHelper.findField(PlayerChunkMapEntry.class, "players", "field_187283_c");
+		} catch (ReflectionHelper.UnableToFindFieldException e) {
+			Log.warning("Could not access the players of chunk map entries, falling back to scanning all players.");
+			return null;
+		}
 	}
 
 	public void sendToServer(IForestryPacketServer packet) {
@@ -46,7 +46,6 @@ import forestry.core.inventory.IInventoryAdapter;
 import forestry.core.network.DataInputStreamForestry;
 import forestry.core.network.DataOutputStreamForestry;
 import forestry.core.network.IStreamable;
-import forestry.core.network.packets.PacketTileStream;
 import forestry.core.proxy.Proxies;
 import forestry.core.utils.NBTUtilForestry;
 
@@ -150,8 +149,7 @@ public abstract class TileForestry extends TileEntity implements IStreamable, IE
 
 	/* INetworkedEntity */
 	protected final void sendNetworkUpdate() {
-		PacketTileStream packet = new PacketTileStream(this);
-		Proxies.net.sendNetworkPacket(packet, worldObj);
+		Proxies.net.sendTileUpdate(this);
 	}
 
 	/* IStreamable */
@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.utils;
+
+import javax.annotation.Nullable;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.SoundCategory;
+import net.minecraft.util.SoundEvent;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IWorldEventListener;
+import net.minecraft.world.World;
+
+/**
+ * Empty implementation of {@link IWorldEventListener}, for listeners that only care about a few world events.
+ */
+public abstract class WorldEventListenerAdapter implements IWorldEventListener {
+	@Override
+	public void notifyBlockUpdate(World world, BlockPos pos, IBlockState oldState, IBlockState newState, int flags) {
+	}
+
+	@Override
+	public void notifyLightSet(BlockPos pos) {
+	}
+
+	@Override
+	public void markBlockRangeForRenderUpdate(int x1, int y1, int z1, int x2, int y2, int z2) {
+	}
+
+	@Override
+	public void playSoundToAllNearExcept(@Nullable EntityPlayer player, SoundEvent sound, SoundCategory category, double x, double y, double z, float volume, float pitch) {
+	}
+
+	@Override
+	public void playRecord(SoundEvent sound, BlockPos pos) {
+	}
+
+	@Override
+	public void spawnParticle(int particleID, boolean ignoreRange, double xCoord, double yCoord, double zCoord, double xSpeed, double ySpeed, double zSpeed, int... parameters) {
+	}
+
+	@Override
+	public void onEntityAdded(Entity entity) {
+	}
+
+	@Override
+	public void onEntityRemoved(Entity entity) {
+	}
+
+	@Override
+	public void broadcastSound(int soundID, BlockPos pos, int data) {
+	}
+
+	@Override
+	public void playEvent(EntityPlayer player, int type, BlockPos pos, int data) {
+	}
+
+	@Override
+	public void sendBlockBreakProgress(int breakerId, BlockPos pos, int progress) {
+	}
+}
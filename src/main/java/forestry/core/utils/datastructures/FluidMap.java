@@ -10,6 +10,9 @@
  ******************************************************************************/
 package forestry.core.utils.datastructures;
 
+import java.util.Collection;
+import java.util.Collections;
+
 import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fluids.FluidStack;
@@ -49,4 +52,21 @@ public class FluidMap<T> extends StackMap<Fluid, T> {
 		}
 		return null;
 	}
+
+	@Override
+	protected Object getIndexKey(Object key) {
+		if (key instanceof FluidStack) {
+			Fluid fluid = ((FluidStack) key).getFluid();
+			return fluid == null ? null : fluid.getName();
+		}
+		if (key instanceof Fluid) {
+			return ((Fluid) key).getName();
+		}
+		return key;
+	}
+
+	@Override
+	protected Collection<?> getLookupIndexKeys(Fluid a) {
+		return Collections.singletonList(a.getName());
+	}
 }
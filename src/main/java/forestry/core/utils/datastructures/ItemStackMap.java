@@ -10,6 +10,11 @@
  ******************************************************************************/
 package forestry.core.utils.datastructures;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 
@@ -50,4 +55,26 @@ public class ItemStackMap<T> extends StackMap<ItemStack, T> {
 		return null;
 	}
 
+	@Override
+	protected Object getIndexKey(Object key) {
+		if (key instanceof ItemStack) {
+			return ((ItemStack) key).getItem();
+		}
+		return key;
+	}
+
+	@Override
+	protected Collection<?> getLookupIndexKeys(ItemStack a) {
+		if (a.getItem() == null) {
+			return Collections.emptyList();
+		}
+		int[] oreIds = OreDictionary.getOreIDs(a);
+		List<Object> indexKeys = new ArrayList<>(oreIds.length + 1);
+		indexKeys.add(a.getItem());
+		for (int oreId : oreIds) {
+			indexKeys.add(OreDictionary.getOreName(oreId));
+		}
+		return indexKeys;
+	}
+
 }
@@ -10,8 +10,11 @@
  ******************************************************************************/
 package forestry.core.utils.datastructures;
 
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Map for fluids and items. Can add things like ore dictionary strings etc.
@@ -21,15 +24,62 @@ import java.util.Map;
  * @author Alex Binnie
  */
 public abstract class StackMap<P, T> extends HashMap<P, T> {
-	
+
+	/**
+	 * Stored keys grouped by their index key, so lookups only compare keys that can be equal.
+	 * Rebuilt lazily when it is missing after deserialization or out of sync with the map.
+	 */
+	private transient Map<Object, Set<Object>> keyIndex;
+	/**
+	 * Number of keys added through {@link #put} and not removed through {@link #remove}.
+	 * Differs from the map size when keys were added or removed past the index, e.g. through the map views.
+	 */
+	private transient int indexedSize;
+
 	@Override
 	public final T put(P key, T value) {
 		if (isValidKey(key) && key != null && value != null) {
-			return super.put(key, value);
+			T previous = super.put(key, value);
+			if (previous == null && keyIndex != null) {
+				index(key);
+				indexedSize++;
+			}
+			return previous;
 		}
 		return null;
 	}
 
+	@Override
+	public void putAll(Map<? extends P, ? extends T> map) {
+		for (Map.Entry<? extends P, ? extends T> entry : map.entrySet()) {
+			put(entry.getKey(), entry.getValue());
+		}
+	}
+
+	@Override
+	public T remove(Object key) {
+		T removed = super.remove(key);
+		if (removed != null && keyIndex != null) {
+			indexedSize--;
+			Object indexKey = getIndexKey(key);
+			Set<Object> keys = keyIndex.get(indexKey);
+			if (keys != null) {
+				keys.remove(key);
+				if (keys.isEmpty()) {
+					keyIndex.remove(indexKey);
+				}
+			}
+		}
+		return removed;
+	}
+
+	@Override
+	public void clear() {
+		super.clear();
+		keyIndex = null;
+		indexedSize = 0;
+	}
+
 	private static final long serialVersionUID = 5383477742290646466L;
 
 	@Override
@@ -38,10 +88,8 @@ public abstract class StackMap<P, T> extends HashMap<P, T> {
 		if (stack == null) {
 			return false;
 		}
-		for (Map.Entry<P, T> entry : this.entrySet()) {
-			if (areEqual(stack, entry.getKey())) {
-				return true;
-			}
+		if (findKey(stack) != null) {
+			return true;
 		}
 		return super.containsKey(key);
 	}
@@ -52,14 +100,53 @@ public abstract class StackMap<P, T> extends HashMap<P, T> {
 		if (stack == null) {
 			return null;
 		}
-		for (Map.Entry<P, T> entry : this.entrySet()) {
-			if (areEqual(stack, entry.getKey())) {
-				return entry.getValue();
-			}
+		Object storedKey = findKey(stack);
+		if (storedKey != null) {
+			return super.get(storedKey);
 		}
 		return super.get(key);
 	}
 
+	private Map<Object, Set<Object>> getKeyIndex() {
+		if (keyIndex == null || indexedSize != size()) {
+			keyIndex = new HashMap<>();
+			for (P key : keySet()) {
+				index(key);
+			}
+			indexedSize = size();
+		}
+		return keyIndex;
+	}
+
+	private void index(Object key) {
+		Object indexKey = getIndexKey(key);
+		if (indexKey == null) {
+			return;
+		}
+		Set<Object> keys = keyIndex.get(indexKey);
+		if (keys == null) {
+			keys = new HashSet<>();
+			keyIndex.put(indexKey, keys);
+		}
+		keys.add(key);
+	}
+
+	private Object findKey(P stack) {
+		for (Object indexKey : getLookupIndexKeys(stack)) {
+			Set<Object> keys = getKeyIndex().get(indexKey);
+			if (keys == null) {
+				continue;
+			}
+			for (Object key : keys) {
+				// keys removed through the map views stay in the index, skip them
+				if (areEqual(stack, key) && super.containsKey(key)) {
+					return key;
+				}
+			}
+		}
+		return null;
+	}
+
 	/**
 	 * Is a, the key used to lookup, equivelant to the key b
 	 *
@@ -85,4 +172,21 @@ public abstract class StackMap<P, T> extends HashMap<P, T> {
 	 */
 	protected abstract P getStack(Object key);
 
+	/**
+	 * Index key of a key stored in this map.
+	 * Stored keys that can be equal to a lookup key must share an index key with one of {@link #getLookupIndexKeys(Object)}.
+	 *
+	 * @param key
+	 * @return
+	 */
+	protected abstract Object getIndexKey(Object key);
+
+	/**
+	 * Index keys that may hold stored keys equal to the lookup key a
+	 *
+	 * @param a
+	 * @return
+	 */
+	protected abstract Collection<?> getLookupIndexKeys(P a);
+
 }
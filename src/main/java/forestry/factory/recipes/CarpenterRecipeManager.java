@@ -10,11 +10,15 @@
  ******************************************************************************/
 package forestry.factory.recipes;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
 import net.minecraft.inventory.IInventory;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 
 import net.minecraftforge.fluids.Fluid;
@@ -32,6 +36,12 @@ public class CarpenterRecipeManager implements ICarpenterManager {
 	private static final Set<ICarpenterRecipe> recipes = new HashSet<>();
 	private static final Set<Fluid> recipeFluids = new HashSet<>();
 
+	/**
+	 * Immutable index of the recipes, rebuilt after recipes were added or removed.
+	 * Lookups also come from client GUI code, so it is published as a whole instead of being updated in place.
+	 */
+	private static volatile CarpenterRecipeIndex recipeIndex;
+
 	@Override
 	public void addRecipe(ItemStack box, ItemStack product, Object materials[]) {
 		addRecipe(5, null, box, product, materials);
@@ -49,9 +59,27 @@ public class CarpenterRecipeManager implements ICarpenterManager {
 	}
 
 	public static ICarpenterRecipe findMatchingRecipe(FluidStack liquid, ItemStack item, IInventory inventorycrafting) {
-		for (ICarpenterRecipe recipe : recipes) {
-			if (matches(recipe, liquid, item, inventorycrafting)) {
-				return recipe;
+		CarpenterRecipeIndex index = getRecipeIndex();
+
+		Set<Item> gridItems = new HashSet<>();
+		for (int slot = 0; slot < 9; slot++) {
+			ItemStack stack = inventorycrafting.getStackInSlot(slot);
+			if (stack != null && stack.getItem() != null) {
+				gridItems.add(stack.getItem());
+			}
+		}
+
+		for (Item gridItem : gridItems) {
+			for (CarpenterRecipeEntry entry : index.recipesByIngredient.get(gridItem)) {
+				if (entry.couldMatch(liquid, gridItems) && matches(entry.recipe, liquid, item, inventorycrafting)) {
+					return entry.recipe;
+				}
+			}
+		}
+
+		for (CarpenterRecipeEntry entry : index.unindexedRecipes) {
+			if (entry.couldMatch(liquid, gridItems) && matches(entry.recipe, liquid, item, inventorycrafting)) {
+				return entry.recipe;
 			}
 		}
 		return null;
@@ -83,8 +111,7 @@ public class CarpenterRecipeManager implements ICarpenterManager {
 			return false;
 		}
 
-		for (ICarpenterRecipe recipe : recipes) {
-			ItemStack box = recipe.getBox();
+		for (ItemStack box : getRecipeIndex().boxesByItem.get(resource.getItem())) {
 			if (ItemStackUtil.isIdenticalItem(box, resource)) {
 				return true;
 			}
@@ -93,9 +120,27 @@ public class CarpenterRecipeManager implements ICarpenterManager {
 		return false;
 	}
 
+	private static CarpenterRecipeIndex getRecipeIndex() {
+		CarpenterRecipeIndex index = recipeIndex;
+		if (index == null) {
+			synchronized (CarpenterRecipeManager.class) {
+				index = recipeIndex;
+				if (index == null) {
+					index = new CarpenterRecipeIndex(recipes);
+					recipeIndex = index;
+				}
+			}
+		}
+		return index;
+	}
+
 	@Override
 	public boolean addRecipe(ICarpenterRecipe recipe) {
-		return recipes.add(recipe);
+		boolean added = recipes.add(recipe);
+		if (added) {
+			recipeIndex = null;
+		}
+		return added;
 	}
 
 	@Override
@@ -103,6 +148,7 @@ public class CarpenterRecipeManager implements ICarpenterManager {
 		boolean removed = recipes.remove(recipe);
 		if (removed) {
 			recipeFluids.clear();
+			recipeIndex = null;
 		}
 		return removed;
 	}
@@ -123,4 +169,69 @@ public class CarpenterRecipeManager implements ICarpenterManager {
 	public Set<ICarpenterRecipe> recipes() {
 		return Collections.unmodifiableSet(recipes);
 	}
+
+	private static class CarpenterRecipeIndex {
+		/**
+		 * Recipes keyed by one of the items their crafting grid requires exactly.
+		 * A recipe can only match a grid containing that item, so lookups only test recipes indexed under the grid's items.
+		 */
+		private final ImmutableListMultimap<Item, CarpenterRecipeEntry> recipesByIngredient;
+		/** Recipes without an exact item ingredient (only ore dictionary ingredients), which are always tested. */
+		private final ImmutableList<CarpenterRecipeEntry> unindexedRecipes;
+		private final ImmutableListMultimap<Item, ItemStack> boxesByItem;
+
+		public CarpenterRecipeIndex(Set<ICarpenterRecipe> recipes) {
+			ImmutableListMultimap.Builder<Item, CarpenterRecipeEntry> recipesByIngredient = ImmutableListMultimap.builder();
+			ImmutableList.Builder<CarpenterRecipeEntry> unindexedRecipes = ImmutableList.builder();
+			ImmutableListMultimap.Builder<Item, ItemStack> boxesByItem = ImmutableListMultimap.builder();
+
+			for (ICarpenterRecipe recipe : recipes) {
+				CarpenterRecipeEntry entry = new CarpenterRecipeEntry(recipe);
+				if (entry.requiredItems.isEmpty()) {
+					unindexedRecipes.add(entry);
+				} else {
+					recipesByIngredient.put(entry.requiredItems.iterator().next(), entry);
+				}
+
+				ItemStack box = recipe.getBox();
+				if (box != null && box.getItem() != null) {
+					boxesByItem.put(box.getItem(), box);
+				}
+			}
+
+			this.recipesByIngredient = recipesByIngredient.build();
+			this.unindexedRecipes = unindexedRecipes.build();
+			this.boxesByItem = boxesByItem.build();
+		}
+	}
+
+	private static class CarpenterRecipeEntry {
+		private final ICarpenterRecipe recipe;
+		private final Fluid fluid;
+		/** Items that must all be present in the crafting grid, from ingredients that are exact item stacks. */
+		private final Set<Item> requiredItems = new HashSet<>();
+
+		public CarpenterRecipeEntry(ICarpenterRecipe recipe) {
+			this.recipe = recipe;
+
+			FluidStack fluidResource = recipe.getFluidResource();
+			this.fluid = fluidResource != null ? fluidResource.getFluid() : null;
+
+			for (Object ingredient : recipe.getCraftingGridRecipe().getIngredients()) {
+				if (ingredient instanceof ItemStack) {
+					Item item = ((ItemStack) ingredient).getItem();
+					if (item != null) {
+						requiredItems.add(item);
+					}
+				}
+			}
+		}
+
+		public boolean couldMatch(FluidStack resource, Set<Item> gridItems) {
+			if (fluid != null && (resource == null || resource.getFluid() != fluid)) {
+				return false;
+			}
+			return gridItems.containsAll(requiredItems);
+		}
+	}
 }
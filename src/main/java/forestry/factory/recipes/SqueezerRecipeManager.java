@@ -10,14 +10,27 @@
  ******************************************************************************/
 package forestry.factory.recipes;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.SetMultimap;
+
 import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
 
+import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.oredict.OreDictionary;
 
 import forestry.api.recipes.ISqueezerManager;
 import forestry.api.recipes.ISqueezerRecipe;
@@ -30,6 +43,28 @@ public class SqueezerRecipeManager implements ISqueezerManager {
 	private static final Set<ISqueezerRecipe> recipes = new HashSet<>();
 	public static final ItemStackMap<ISqueezerContainerRecipe> containerRecipes = new ItemStackMap<>();
 
+	/* Inverted index from resource items and ore dictionary ids to the recipes that use them, built lazily. */
+	private static final SetMultimap<Item, ISqueezerRecipe> recipesByItem = HashMultimap.create();
+	private static final SetMultimap<Integer, ISqueezerRecipe> recipesByOreId = HashMultimap.create();
+	private static boolean indexDirty = true;
+
+	/** Recently seen inputs that matched no recipe. */
+	private static final Cache<SqueezerInput, Boolean> unmatchedInputs = CacheBuilder.newBuilder()
+			.maximumSize(256)
+			.build();
+
+	public SqueezerRecipeManager() {
+		MinecraftForge.EVENT_BUS.register(this);
+	}
+
+	/**
+	 * The index and the unmatched inputs depend on the ore dictionary ids of the stacks, which change when ores are registered.
+	 */
+	@SubscribeEvent
+	public void onOreRegister(OreDictionary.OreRegisterEvent event) {
+		invalidate();
+	}
+
 	@Override
 	public void addRecipe(int timePerItem, ItemStack[] resources, FluidStack liquid, @Nullable ItemStack remnants, int chance) {
 		ISqueezerRecipe recipe = new SqueezerRecipe(timePerItem, resources, liquid, remnants, chance / 100.0f);
@@ -44,6 +79,7 @@ public class SqueezerRecipeManager implements ISqueezerManager {
 	@Override
 	public void addContainerRecipe(int timePerItem, ItemStack emptyContainer, @Nullable ItemStack remnants, float chance) {
 		containerRecipes.put(emptyContainer, new SqueezerContainerRecipe(emptyContainer, timePerItem, remnants, chance));
+		unmatchedInputs.invalidateAll();
 	}
 
 	@Nullable
@@ -56,6 +92,19 @@ public class SqueezerRecipeManager implements ISqueezerManager {
 	}
 
 	public static ISqueezerRecipe findMatchingRecipe(ItemStack[] items) {
+		SqueezerInput input = new SqueezerInput(items);
+		if (unmatchedInputs.getIfPresent(input) != null) {
+			return null;
+		}
+
+		ISqueezerRecipe recipe = findMatchingRecipeUncached(items);
+		if (recipe == null) {
+			unmatchedInputs.put(input, Boolean.TRUE);
+		}
+		return recipe;
+	}
+
+	private static ISqueezerRecipe findMatchingRecipeUncached(ItemStack[] items) {
 		// Find container recipes
 		for (ItemStack itemStack : items) {
 			ISqueezerContainerRecipe containerRecipe = findMatchingContainerRecipe(itemStack);
@@ -67,15 +116,25 @@ public class SqueezerRecipeManager implements ISqueezerManager {
 			}
 		}
 
+		// Only recipes sharing an item or ore dictionary id with the input can match
+		Set<ISqueezerRecipe> candidates = new LinkedHashSet<>();
+		for (ItemStack itemStack : items) {
+			addCandidates(itemStack, candidates);
+		}
+
+		if (candidates.isEmpty()) {
+			return null;
+		}
+
 		// First try to match a specific recipe (without OreDictionary)
-		for (ISqueezerRecipe recipe : recipes) {
+		for (ISqueezerRecipe recipe : candidates) {
 			if (ItemStackUtil.containsSets(recipe.getResources(), items, false, false) > 0) {
 				return recipe;
 			}
 		}
 
 		// If that fails - try again with OreDictionary support enabled
-		for (ISqueezerRecipe recipe : recipes) {
+		for (ISqueezerRecipe recipe : candidates) {
 			if (ItemStackUtil.containsSets(recipe.getResources(), items, true, false) > 0) {
 				return recipe;
 			}
@@ -85,29 +144,152 @@ public class SqueezerRecipeManager implements ISqueezerManager {
 	}
 
 	public static boolean canUse(ItemStack itemStack) {
-		for (ISqueezerRecipe recipe : recipes) {
+		if (itemStack != null && itemStack.getItem() != null) {
+			buildIndex();
+
+			if (canUse(recipesByItem.get(itemStack.getItem()), itemStack)) {
+				return true;
+			}
+			for (int oreId : OreDictionary.getOreIDs(itemStack)) {
+				if (canUse(recipesByOreId.get(oreId), itemStack)) {
+					return true;
+				}
+			}
+		}
+
+		return SqueezerRecipeManager.findMatchingContainerRecipe(itemStack) != null;
+	}
+
+	private static boolean canUse(Set<ISqueezerRecipe> candidates, ItemStack itemStack) {
+		for (ISqueezerRecipe recipe : candidates) {
 			for (ItemStack recipeInput : recipe.getResources()) {
 				if (ItemStackUtil.isCraftingEquivalent(recipeInput, itemStack, true, false)) {
 					return true;
 				}
 			}
 		}
+		return false;
+	}
 
-		return SqueezerRecipeManager.findMatchingContainerRecipe(itemStack) != null;
+	private static void addCandidates(@Nullable ItemStack itemStack, Collection<ISqueezerRecipe> candidates) {
+		if (itemStack == null || itemStack.getItem() == null) {
+			return;
+		}
+
+		buildIndex();
+
+		candidates.addAll(recipesByItem.get(itemStack.getItem()));
+		for (int oreId : OreDictionary.getOreIDs(itemStack)) {
+			candidates.addAll(recipesByOreId.get(oreId));
+		}
+	}
+
+	private static void buildIndex() {
+		if (!indexDirty) {
+			return;
+		}
+
+		recipesByItem.clear();
+		recipesByOreId.clear();
+
+		for (ISqueezerRecipe recipe : recipes) {
+			for (ItemStack resource : recipe.getResources()) {
+				if (resource == null || resource.getItem() == null) {
+					continue;
+				}
+				recipesByItem.put(resource.getItem(), recipe);
+				for (int oreId : OreDictionary.getOreIDs(resource)) {
+					recipesByOreId.put(oreId, recipe);
+				}
+			}
+		}
+
+		indexDirty = false;
+	}
+
+	private static void invalidate() {
+		indexDirty = true;
+		unmatchedInputs.invalidateAll();
 	}
 
 	@Override
 	public boolean addRecipe(ISqueezerRecipe recipe) {
-		return recipes.add(recipe);
+		boolean added = recipes.add(recipe);
+		if (added) {
+			invalidate();
+		}
+		return added;
 	}
 
 	@Override
 	public boolean removeRecipe(ISqueezerRecipe recipe) {
-		return recipes.remove(recipe);
+		boolean removed = recipes.remove(recipe);
+		if (removed) {
+			invalidate();
+		}
+		return removed;
 	}
 
 	@Override
 	public Set<ISqueezerRecipe> recipes() {
 		return Collections.unmodifiableSet(recipes);
 	}
+
+	/**
+	 * Snapshot of the item, damage, size and NBT of every input stack, used as a key for the unmatched input cache.
+	 */
+	private static final class SqueezerInput {
+		private final Item[] items;
+		private final int[] damages;
+		private final int[] sizes;
+		private final NBTTagCompound[] tags;
+		private final int hash;
+
+		public SqueezerInput(ItemStack[] stacks) {
+			int length = stacks.length;
+			this.items = new Item[length];
+			this.damages = new int[length];
+			this.sizes = new int[length];
+			this.tags = new NBTTagCompound[length];
+
+			for (int i = 0; i < length; i++) {
+				ItemStack stack = stacks[i];
+				if (stack != null) {
+					items[i] = stack.getItem();
+					damages[i] = stack.getItemDamage();
+					sizes[i] = stack.stackSize;
+					NBTTagCompound tagCompound = stack.getTagCompound();
+					if (tagCompound != null) {
+						tags[i] = tagCompound.copy();
+					}
+				}
+			}
+
+			int hash = Arrays.hashCode(items);
+			hash = 31 * hash + Arrays.hashCode(damages);
+			hash = 31 * hash + Arrays.hashCode(sizes);
+			this.hash = 31 * hash + Arrays.hashCode(tags);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof SqueezerInput)) {
+				return false;
+			}
+			SqueezerInput other = (SqueezerInput) obj;
+			return hash == other.hash &&
+					Arrays.equals(items, other.items) &&
+					Arrays.equals(damages, other.damages) &&
+					Arrays.equals(sizes, other.sizes) &&
+					Arrays.equals(tags, other.tags);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
 }
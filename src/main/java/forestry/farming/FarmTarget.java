@@ -10,6 +10,8 @@
  ******************************************************************************/
 package forestry.farming;
 
+import java.util.BitSet;
+
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
@@ -25,6 +27,9 @@ public class FarmTarget {
 	private int yOffset;
 	private int extent;
 
+	// offsets along this target where blocks changed since the farm last looked for crops there
+	private final BitSet changedOffsets = new BitSet();
+
 	public FarmTarget(BlockPos start, FarmDirection direction, int limit) {
 		this.start = start;
 		this.direction = direction;
@@ -47,6 +52,14 @@ public class FarmTarget {
 		return direction;
 	}
 
+	public void markChanged(int offset) {
+		changedOffsets.set(offset);
+	}
+
+	public BitSet getChangedOffsets() {
+		return changedOffsets;
+	}
+
 	public void setExtentAndYOffset(World world, BlockPos platformPosition) {
 		if (platformPosition == null) {
 			extent = 0;
@@ -63,5 +76,9 @@ public class FarmTarget {
 		}
 
 		yOffset = platformPosition.getY() + 1 - getStart().getY();
+
+		// nothing is known about the crops of a new extent yet
+		changedOffsets.clear();
+		changedOffsets.set(0, extent);
 	}
 }
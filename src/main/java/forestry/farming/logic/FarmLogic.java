@@ -12,6 +12,7 @@ package forestry.farming.logic;
 
 import javax.annotation.Nonnull;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import net.minecraft.block.Block;
@@ -30,8 +31,10 @@ import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
 import forestry.api.farming.FarmDirection;
+import forestry.api.farming.ICrop;
 import forestry.api.farming.IFarmHousing;
 import forestry.api.farming.IFarmLogic;
+import forestry.api.farming.IFarmable;
 import forestry.core.entities.EntitySelector;
 import forestry.core.utils.VectUtil;
 
@@ -71,6 +74,96 @@ public abstract class FarmLogic implements IFarmLogic {
 		return VectUtil.scale(farmDirection.getFacing().getDirectionVec(), step).add(pos);
 	}
 
+	/**
+	 * Harvests the crops of a single position of a target, instead of the whole target like {@link #harvest}.
+	 * The farm uses this to look only at positions where blocks changed.
+	 * Logics which walk their targets one position per harvest call must override this.
+	 * @param crops receives the harvested crops
+	 * @return true if any crops were harvested
+	 */
+	public boolean harvestAt(World world, BlockPos pos, FarmDirection direction, int offset, Collection<ICrop> crops) {
+		return harvestPosition(world, translateWithOffset(pos, direction, offset), direction, crops);
+	}
+
+	/**
+	 * Whether the crops of this logic only become harvestable through block changes the farm gets notified of.
+	 * Logics returning false, e.g. for fruit that ripens without a block update, get all their targets scanned on every harvest cycle.
+	 */
+	public boolean isRipeningSignalledByBlockUpdates() {
+		return true;
+	}
+
+	/**
+	 * Harvests one position of a target, the body of the {@link #harvest} loop.
+	 * The default wraps {@link #harvest}, logics override this and call it from their harvest loop so the farm's
+	 * changed position harvesting doesn't create a collection for every position.
+	 * @param position the position of the target at the offset, usually below the crop
+	 * @param crops receives the harvested crops
+	 * @return true if any crops were harvested
+	 */
+	protected boolean harvestPosition(World world, BlockPos position, FarmDirection direction, Collection<ICrop> crops) {
+		return addAll(harvest(world, position, direction, 1), crops);
+	}
+
+	/**
+	 * Adds the crop of the first farmable that recognizes the block at the position.
+	 * @return true if a crop was added
+	 */
+	protected static boolean harvestFarmables(World world, BlockPos position, Iterable<IFarmable> farmables, Collection<ICrop> crops) {
+		IBlockState blockState = world.getBlockState(position);
+		for (IFarmable farmable : farmables) {
+			ICrop crop = farmable.getCropAt(world, position, blockState);
+			if (crop != null) {
+				crops.add(crop);
+				return true;
+			}
+		}
+		return false;
+	}
+
+	protected static boolean harvestFarmables(World world, BlockPos position, IFarmable[] farmables, Collection<ICrop> crops) {
+		IBlockState blockState = world.getBlockState(position);
+		for (IFarmable farmable : farmables) {
+			ICrop crop = farmable.getCropAt(world, position, blockState);
+			if (crop != null) {
+				crops.add(crop);
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Collects like {@link #collect(World, IFarmHousing)}, without creating a new collection for the result.
+	 * @param products receives the collected items
+	 * @return true if any items were collected
+	 */
+	public boolean collect(World world, IFarmHousing farmHousing, Collection<ItemStack> products) {
+		return addAll(collect(world, farmHousing), products);
+	}
+
+	protected static <T> boolean addAll(Collection<T> source, Collection<T> sink) {
+		if (source == null || source.isEmpty()) {
+			return false;
+		}
+		sink.addAll(source);
+		return true;
+	}
+
+	/**
+	 * Moves the stacks of a produce buffer into a sink, keeping the buffer for reuse.
+	 */
+	protected static boolean drainProduce(List<ItemStack> produce, Collection<ItemStack> products) {
+		if (produce.isEmpty()) {
+			return false;
+		}
+		for (ItemStack stack : produce) {
+			products.add(stack);
+		}
+		produce.clear();
+		return true;
+	}
+
 	private static AxisAlignedBB getHarvestBox(World world, IFarmHousing farmHousing, boolean toWorldHeight) {
 		BlockPos coords = farmHousing.getCoords();
 		Vec3i area = farmHousing.getArea();
@@ -88,16 +181,21 @@ public abstract class FarmLogic implements IFarmLogic {
 	}
 
 	protected List<ItemStack> collectEntityItems(World world, IFarmHousing farmHousing, boolean toWorldHeight) {
+		List<ItemStack> stacks = new ArrayList<>();
+		collectEntityItems(world, farmHousing, toWorldHeight, stacks);
+		return stacks;
+	}
+
+	protected boolean collectEntityItems(World world, IFarmHousing farmHousing, boolean toWorldHeight, Collection<ItemStack> stacks) {
 		AxisAlignedBB harvestBox = getHarvestBox(world, farmHousing, toWorldHeight);
 
 		List<EntityItem> entityItems = world.getEntitiesWithinAABB(entitySelectorFarm.getEntityClass(), harvestBox, entitySelectorFarm);
-		List<ItemStack> stacks = new ArrayList<>();
 		for (EntityItem entity : entityItems) {
 			ItemStack contained = entity.getEntityItem();
 			stacks.add(contained.copy());
 			entity.setDead();
 		}
-		return stacks;
+		return !entityItems.isEmpty();
 	}
 
 	private static class EntitySelectorFarm extends EntitySelector<EntityItem> {
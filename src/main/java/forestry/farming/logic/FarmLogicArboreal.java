@@ -10,10 +10,12 @@
  ******************************************************************************/
 package forestry.farming.logic;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
@@ -62,13 +64,24 @@ public class FarmLogicArboreal extends FarmLogicHomogeneous {
 
 	@Override
 	public Collection<ItemStack> collect(World world, IFarmHousing farmHousing) {
-		Collection<ItemStack> products = produce;
-		produce = collectEntityItems(world, farmHousing, true);
+		List<ItemStack> products = new ArrayList<>();
+		collect(world, farmHousing, products);
 		return products;
 	}
 
+	@Override
+	public boolean collect(World world, IFarmHousing farmHousing, Collection<ItemStack> products) {
+		boolean collected = drainProduce(produce, products);
+		collected |= collectEntityItems(world, farmHousing, true, products);
+		return collected;
+	}
+
 	private final Map<BlockPos, Integer> lastExtentsHarvest = new HashMap<>();
 
+	// reused by every flood fill over connected crops
+	private final Stack<BlockPos> knownCropPositions = new Stack<>();
+	private final Set<BlockPos> checkedBlocks = new HashSet<>();
+
 	@Override
 	public Collection<ICrop> harvest(World world, BlockPos pos, FarmDirection direction, int extent) {
 
@@ -82,26 +95,39 @@ public class FarmLogicArboreal extends FarmLogicHomogeneous {
 		}
 
 		BlockPos position = translateWithOffset(pos.up(), direction, lastExtent);
-		Collection<ICrop> crops = harvestBlocks(world, position);
+		Stack<ICrop> crops = new Stack<>();
+		harvestBlocks(world, position, crops);
 		lastExtent++;
 		lastExtentsHarvest.put(pos, lastExtent);
 
 		return crops;
 	}
 
-	private Collection<ICrop> harvestBlocks(World world, BlockPos position) {
+	@Override
+	public boolean isRipeningSignalledByBlockUpdates() {
+		// fruit ripens in the tile entities of leaves and pods without a block update
+		return false;
+	}
+
+	@Override
+	public boolean harvestAt(World world, BlockPos pos, FarmDirection direction, int offset, Collection<ICrop> crops) {
+		BlockPos position = translateWithOffset(pos.up(), direction, offset);
+		return harvestBlocks(world, position, crops);
+	}
+
+	private boolean harvestBlocks(World world, BlockPos position, Collection<ICrop> crops) {
 		// Determine what type we want to harvest.
 		IFarmable farmable = getFarmableForBlock(world, position, farmables);
 		if (farmable == null) {
-			return Collections.emptyList();
+			return false;
 		}
 
 		// get all crops of the same type that are connected to the first one
-		Stack<BlockPos> knownCropPositions = new Stack<>();
+		knownCropPositions.clear();
 		knownCropPositions.add(position);
 
-		Set<BlockPos> checkedBlocks = new HashSet<>();
-		Stack<ICrop> crops = new Stack<>();
+		checkedBlocks.clear();
+		int harvested = crops.size();
 
 		while (!knownCropPositions.empty()) {
 			BlockPos knownCropPos = knownCropPositions.pop();
@@ -112,14 +138,15 @@ public class FarmLogicArboreal extends FarmLogicHomogeneous {
 					IBlockState blockState = world.getBlockState(candidate);
 					ICrop crop = farmable.getCropAt(world, candidate, blockState);
 					if (crop != null) {
-						crops.push(crop);
+						crops.add(crop);
 						knownCropPositions.push(candidate);
 					}
 				}
 			}
 		}
 
-		return crops;
+		checkedBlocks.clear();
+		return crops.size() > harvested;
 	}
 
 	private static IFarmable getFarmableForBlock(World world, BlockPos position, Collection<IFarmable> farmables) {
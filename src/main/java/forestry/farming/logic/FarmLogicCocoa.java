@@ -122,6 +122,12 @@ public class FarmLogicCocoa extends FarmLogic {
 		return crops;
 	}
 
+	@Override
+	public boolean harvestAt(World world, BlockPos pos, FarmDirection direction, int offset, Collection<ICrop> crops) {
+		BlockPos position = translateWithOffset(pos.up(), direction, offset);
+		return addAll(getHarvestBlocks(world, position), crops);
+	}
+
 	private boolean tryPlantingCocoa(World world, IFarmHousing farmHousing, BlockPos position) {
 		BlockPos.MutableBlockPos current = new BlockPos.MutableBlockPos(position);
 		IBlockState blockState = world.getBlockState(current);
@@ -61,10 +61,10 @@ public abstract class FarmLogicCrops extends FarmLogicWatered {
 	}
 
 	@Override
-	public Collection<ItemStack> collect(World world, IFarmHousing farmHousing) {
-		Collection<ItemStack> products = produce;
-		produce = collectEntityItems(world, farmHousing, false);
-		return products;
+	public boolean collect(World world, IFarmHousing farmHousing, Collection<ItemStack> products) {
+		boolean collected = drainProduce(produce, products);
+		collected |= collectEntityItems(world, farmHousing, false, products);
+		return collected;
 	}
 
 	@Override
@@ -99,17 +99,14 @@ public abstract class FarmLogicCrops extends FarmLogicWatered {
 	public Collection<ICrop> harvest(World world, BlockPos pos, FarmDirection direction, int extent) {
 		Stack<ICrop> crops = new Stack<>();
 		for (int i = 0; i < extent; i++) {
-			BlockPos position = translateWithOffset(pos.up(), direction, i);
-			IBlockState blockState = world.getBlockState(position);
-			for (IFarmable seed : seeds) {
-				ICrop crop = seed.getCropAt(world, position, blockState);
-				if (crop != null) {
-					crops.push(crop);
-					break;
-				}
-			}
+			harvestPosition(world, translateWithOffset(pos, direction, i), direction, crops);
 		}
 		return crops;
 	}
 
+	@Override
+	protected boolean harvestPosition(World world, BlockPos position, FarmDirection direction, Collection<ICrop> crops) {
+		return harvestFarmables(world, position.up(), seeds, crops);
+	}
+
 }
@@ -13,7 +13,6 @@ package forestry.farming.logic;
 import java.util.Collection;
 import java.util.Stack;
 
-import net.minecraft.block.state.IBlockState;
 import net.minecraft.init.Items;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.math.BlockPos;
@@ -83,17 +82,14 @@ public class FarmLogicGourd extends FarmLogic {
 	public Collection<ICrop> harvest(World world, BlockPos pos, FarmDirection direction, int extent) {
 		Stack<ICrop> crops = new Stack<>();
 		for (int i = 0; i < extent; i++) {
-			BlockPos position = translateWithOffset(pos.up(), direction, i);
-			IBlockState blockState = world.getBlockState(position);
-			for (IFarmable seed : seeds) {
-				ICrop crop = seed.getCropAt(world, position, blockState);
-				if (crop != null) {
-					crops.push(crop);
-					break;
-				}
-			}
+			harvestPosition(world, translateWithOffset(pos, direction, i), direction, crops);
 		}
 		return crops;
 	}
 
+	@Override
+	protected boolean harvestPosition(World world, BlockPos position, FarmDirection direction, Collection<ICrop> crops) {
+		return harvestFarmables(world, position.up(), seeds, crops);
+	}
+
 }
@@ -32,7 +32,7 @@ public abstract class FarmLogicHomogeneous extends FarmLogic {
 	private final IBlockState soilState;
 	protected final List<IFarmable> farmables;
 
-	List<ItemStack> produce = new ArrayList<>();
+	final List<ItemStack> produce = new ArrayList<>();
 
 	protected FarmLogicHomogeneous(ItemStack resource, @Nonnull IBlockState soilState, Collection<IFarmable> farmables) {
 		this.resource = resource;
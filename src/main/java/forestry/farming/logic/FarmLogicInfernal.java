@@ -62,19 +62,14 @@ public class FarmLogicInfernal extends FarmLogicHomogeneous {
 	public Collection<ICrop> harvest(World world, BlockPos pos, FarmDirection direction, int extent) {
 		Stack<ICrop> crops = new Stack<>();
 		for (int i = 0; i < extent; i++) {
-			BlockPos position = translateWithOffset(pos.up(), direction, i);
-			IBlockState blockState = world.getBlockState(position);
-			for (IFarmable farmable : farmables) {
-				ICrop crop = farmable.getCropAt(world, position, blockState);
-				if (crop != null) {
-					crops.push(crop);
-					break;
-				}
-			}
-
+			harvestPosition(world, translateWithOffset(pos, direction, i), direction, crops);
 		}
 		return crops;
+	}
 
+	@Override
+	protected boolean harvestPosition(World world, BlockPos position, FarmDirection direction, Collection<ICrop> crops) {
+		return harvestFarmables(world, position.up(), farmables, crops);
 	}
 
 	@Override
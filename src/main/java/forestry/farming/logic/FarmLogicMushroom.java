@@ -10,7 +10,6 @@
  ******************************************************************************/
 package forestry.farming.logic;
 
-import java.util.ArrayList;
 import java.util.Collection;
 
 import net.minecraft.init.Blocks;
@@ -51,10 +50,8 @@ public class FarmLogicMushroom extends FarmLogicArboreal {
 	}
 
 	@Override
-	public Collection<ItemStack> collect(World world, IFarmHousing farmHousing) {
-		Collection<ItemStack> products = produce;
-		produce = new ArrayList<>();
-		return products;
+	public boolean collect(World world, IFarmHousing farmHousing, Collection<ItemStack> products) {
+		return drainProduce(produce, products);
 	}
 
 }
@@ -121,6 +121,18 @@ public class FarmLogicOrchard extends FarmLogic {
 		return crops;
 	}
 
+	@Override
+	public boolean isRipeningSignalledByBlockUpdates() {
+		// fruit ripens in the tile entities of leaves and pods without a block update
+		return false;
+	}
+
+	@Override
+	public boolean harvestAt(World world, BlockPos pos, FarmDirection direction, int offset, Collection<ICrop> crops) {
+		BlockPos position = translateWithOffset(pos.up(), direction, offset);
+		return addAll(getHarvestBlocks(world, position), crops);
+	}
+
 	@Override
 	public ItemStack getIconItemStack() {
 		return new ItemStack(PluginCore.items.fruits);
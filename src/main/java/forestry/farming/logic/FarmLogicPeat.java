@@ -68,22 +68,28 @@ public class FarmLogicPeat extends FarmLogicWatered {
 	public Collection<ICrop> harvest(World world, BlockPos pos, FarmDirection direction, int extent) {
 		Stack<ICrop> crops = new Stack<>();
 		for (int i = 0; i < extent; i++) {
-			BlockPos position = translateWithOffset(pos, direction, i);
-			IBlockState blockState = world.getBlockState(position);
-			Block block = blockState.getBlock();
-			if (!(block instanceof BlockBogEarth)) {
-				continue;
-			}
-
-			BlockBogEarth.SoilType soilType = BlockBogEarth.getTypeFromState(blockState);
-
-			if (soilType == BlockBogEarth.SoilType.PEAT) {
-				crops.push(new CropPeat(world, position));
-			}
+			harvestPosition(world, translateWithOffset(pos, direction, i), direction, crops);
 		}
 		return crops;
 	}
 
+	@Override
+	protected boolean harvestPosition(World world, BlockPos position, FarmDirection direction, Collection<ICrop> crops) {
+		IBlockState blockState = world.getBlockState(position);
+		Block block = blockState.getBlock();
+		if (!(block instanceof BlockBogEarth)) {
+			return false;
+		}
+
+		BlockBogEarth.SoilType soilType = BlockBogEarth.getTypeFromState(blockState);
+
+		if (soilType == BlockBogEarth.SoilType.PEAT) {
+			crops.add(new CropPeat(world, position));
+			return true;
+		}
+		return false;
+	}
+
 	@Override
 	public ItemStack getIconItemStack() {
 		return new ItemStack(PluginCore.items.peat);
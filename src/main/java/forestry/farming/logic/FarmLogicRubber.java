@@ -113,6 +113,16 @@ public class FarmLogicRubber extends FarmLogic {
 		return crops;
 	}
 
+	@Override
+	public boolean harvestAt(World world, BlockPos pos, FarmDirection direction, int offset, Collection<ICrop> crops) {
+		if (!active) {
+			return false;
+		}
+
+		BlockPos position = translateWithOffset(pos.up(), direction, offset);
+		return addAll(getHarvestBlocks(world, position), crops);
+	}
+
 	private Collection<ICrop> getHarvestBlocks(World world, BlockPos position) {
 		Set<BlockPos> seen = new HashSet<>();
 		Stack<ICrop> crops = new Stack<>();
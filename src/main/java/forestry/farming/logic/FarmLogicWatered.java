@@ -37,7 +37,7 @@ public abstract class FarmLogicWatered extends FarmLogic {
 	
 	private static final FluidStack STACK_WATER = new FluidStack(FluidRegistry.WATER, Fluid.BUCKET_VOLUME);
 
-	protected List<ItemStack> produce = new ArrayList<>();
+	protected final List<ItemStack> produce = new ArrayList<>();
 
 	protected FarmLogicWatered(ItemStack resource, @Nonnull IBlockState ground) {
 		this.ground = ground;
@@ -65,11 +65,16 @@ public abstract class FarmLogicWatered extends FarmLogic {
 
 	@Override
 	public Collection<ItemStack> collect(World world, IFarmHousing farmHousing) {
-		Collection<ItemStack> products = produce;
-		produce = new ArrayList<>();
+		List<ItemStack> products = new ArrayList<>();
+		collect(world, farmHousing, products);
 		return products;
 	}
 
+	@Override
+	public boolean collect(World world, IFarmHousing farmHousing, Collection<ItemStack> products) {
+		return drainProduce(produce, products);
+	}
+
 	@Override
 	public boolean cultivate(World world, IFarmHousing farmHousing, BlockPos pos, FarmDirection direction, int extent) {
 
@@ -3,8 +3,10 @@ package forestry.farming.models;
 import javax.annotation.Nonnull;
 
 import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
 import net.minecraft.client.renderer.texture.TextureAtlasSprite;
 import net.minecraft.item.ItemStack;
+import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.IBlockAccess;
 
@@ -37,6 +39,29 @@ public class ModelFarmBlock extends ModelBlockDefault<BlockFarm> {
 		baker.addBlockModel(blockFarm, Block.FULL_BLOCK_AABB, null, getOverlaySprites(EnumFarmBlockType.VALUES[item.getItemDamage()]), 0);
 	}
 
+	@Override
+	protected Object getWorldKey(@Nonnull BlockFarm blockFarm, @Nonnull IBlockAccess world, @Nonnull BlockPos pos, @Nonnull IExtendedBlockState stateExtended) {
+		TileFarm farm = TileUtil.getTile(world, pos, TileFarm.class);
+
+		EnumFarmBlockTexture texture = EnumFarmBlockTexture.BRICK;
+		EnumFarmBlockType type = EnumFarmBlockType.PLAIN;
+		if (farm != null) {
+			texture = farm.getFarmBlockTexture();
+			type = farm.getFarmBlockType();
+		}
+
+		// the baker skips hidden sides, so they are part of the key
+		IBlockState blockState = world.getBlockState(pos);
+		int visibleSides = 0;
+		for (EnumFacing facing : EnumFacing.VALUES) {
+			if (blockFarm.shouldSideBeRendered(blockState, world, pos, facing)) {
+				visibleSides |= 1 << facing.ordinal();
+			}
+		}
+
+		return (texture.ordinal() * EnumFarmBlockType.VALUES.length + type.ordinal()) << EnumFacing.VALUES.length | visibleSides;
+	}
+
 	@Override
 	public void bakeWorldBlock(@Nonnull BlockFarm blockFarm, @Nonnull IBlockAccess world, @Nonnull BlockPos pos, @Nonnull IExtendedBlockState stateExtended, @Nonnull IModelBaker baker) {
 
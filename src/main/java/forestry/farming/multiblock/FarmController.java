@@ -15,16 +15,17 @@ import com.google.common.base.Objects;
 import javax.annotation.Nonnull;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.Stack;
 
@@ -33,9 +34,11 @@ import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3i;
 import net.minecraft.world.World;
+import net.minecraft.world.gen.structure.StructureBoundingBox;
 
 import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fluids.FluidStack;
@@ -77,9 +80,11 @@ import forestry.core.tiles.ILiquidTankTile;
 import forestry.core.utils.PlayerUtil;
 import forestry.core.utils.TopDownBlockPosComparator;
 import forestry.core.utils.Translator;
+import forestry.core.utils.WorldEventListenerAdapter;
 import forestry.farming.FarmHelper;
 import forestry.farming.FarmTarget;
 import forestry.farming.gui.IFarmLedgerDelegate;
+import forestry.farming.logic.FarmLogic;
 import forestry.farming.logic.FarmLogicArboreal;
 import forestry.farming.tiles.TileFarmGearbox;
 import forestry.farming.tiles.TileFarmPlain;
@@ -112,14 +117,60 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 		return null;
 	}
 
+	// every this many harvest cycles, all targets are scanned for crops that grew without a block update
+	// logics whose crops ripen without block updates are scanned on every cycle
+	private static final int HARVEST_SWEEP_INTERVAL = 8;
+
+	// every order of the farm sides, so that work cycles can pick a random one instead of shuffling the sides
+	private static final FarmDirection[][] FARM_SIDE_ORDERS = createFarmSideOrders();
+
+	private static FarmDirection[][] createFarmSideOrders() {
+		List<FarmDirection[]> orders = new ArrayList<>();
+		addFarmSideOrders(FarmDirection.values(), 0, orders);
+		return orders.toArray(new FarmDirection[orders.size()][]);
+	}
+
+	private static void addFarmSideOrders(FarmDirection[] sides, int start, List<FarmDirection[]> orders) {
+		if (start == sides.length) {
+			orders.add(sides.clone());
+			return;
+		}
+
+		for (int i = start; i < sides.length; i++) {
+			FarmDirection side = sides[start];
+			sides[start] = sides[i];
+			sides[i] = side;
+
+			addFarmSideOrders(sides, start + 1, orders);
+
+			sides[i] = sides[start];
+			sides[start] = side;
+		}
+	}
+
 	private final Map<FarmDirection, List<FarmTarget>> targets = new EnumMap<>(FarmDirection.class);
+	// the area in which bricks decide the targets of each side, and the sides whose targets must be set up again
+	private final Map<FarmDirection, StructureBoundingBox> targetAreas = new EnumMap<>(FarmDirection.class);
+	private final Set<FarmDirection> staleTargets = EnumSet.allOf(FarmDirection.class);
+	// sides whose target area was not completely loaded when they were set up
+	private final Set<FarmDirection> partiallyLoadedTargets = EnumSet.noneOf(FarmDirection.class);
+	private final FarmBlockListener blockListener = new FarmBlockListener();
+	private boolean blockListenerRegistered = false;
 	private int allowedExtent = 0;
 
 	private IFarmLogic harvestProvider; // The farm logic which supplied the pending crops.
-	private final List<ICrop> pendingCrops = new LinkedList<>();
+	// crops waiting to be culled, highest first
+	private final PriorityQueue<ICrop> pendingCrops = new PriorityQueue<>(16, TopDownICropComparator.INSTANCE);
 	private final Stack<ItemStack> pendingProduce = new Stack<>();
 
 	private Stage stage = Stage.CULTIVATE;
+	private int harvestCycles = 0;
+
+	// reused by every work cycle
+	private final FarmWorkStatus farmWorkStatus = new FarmWorkStatus();
+	private final List<ICrop> harvestedCrops = new ArrayList<>();
+	private final List<ItemStack> collectedProduce = new ArrayList<>();
+	private final FluidStack requiredWater = new FluidStack(FluidRegistry.WATER, 0);
 
 	// active components are stored with a tick offset so they do not all tick together
 	private final Map<IFarmComponent.Active, Integer> farmActiveComponents = new HashMap<>();
@@ -222,10 +273,34 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 		}
 	}
 
+	@Override
+	protected void onMachineAssembled() {
+		super.onMachineAssembled();
+		invalidateTargets();
+		registerBlockListener();
+	}
+
+	@Override
+	protected void onMachineRestored() {
+		super.onMachineRestored();
+		invalidateTargets();
+		registerBlockListener();
+	}
+
+	@Override
+	protected void onMachinePaused() {
+		super.onMachinePaused();
+		unregisterBlockListener();
+	}
+
 	@Override
 	protected void onMachineDisassembled() {
 		super.onMachineDisassembled();
+		unregisterBlockListener();
 		targets.clear();
+		targetAreas.clear();
+		partiallyLoadedTargets.clear();
+		invalidateTargets();
 	}
 
 	@Override
@@ -249,7 +324,17 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 
 	@Override
 	public void onAssimilated(IMultiblockControllerInternal assimilator) {
+		unregisterBlockListener();
+	}
+
+	@Override
+	public void detachBlock(IMultiblockComponent part, boolean chunkUnloading) {
+		super.detachBlock(part, chunkUnloading);
 
+		// controllers that lost all parts at once become dead without being disassembled
+		if (connectedParts.isEmpty()) {
+			unregisterBlockListener();
+		}
 	}
 
 	@Override
@@ -444,7 +529,12 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 	@Override
 	public boolean doWork() {
 		farmWorkTicks++;
-		if (targets.isEmpty() || farmWorkTicks % 20 == 0) {
+		if (!partiallyLoadedTargets.isEmpty() && farmWorkTicks % 20 == 0) {
+			// chunk loads do not cause block updates, so look at those sides again from time to time
+			staleTargets.addAll(partiallyLoadedTargets);
+			partiallyLoadedTargets.clear();
+		}
+		if (!staleTargets.isEmpty()) {
 			setUpFarmlandTargets();
 		}
 
@@ -463,21 +553,26 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 
 		// Cull queued crops.
 		if (!pendingCrops.isEmpty()) {
-			ICrop first = pendingCrops.get(0);
-			if (cullCrop(first, harvestProvider)) {
-				pendingCrops.remove(0);
-				return true;
-			} else {
-				return false;
+			for (int culled = 0; culled < Config.farmCropsCulledPerCycle && !pendingCrops.isEmpty(); culled++) {
+				if (!cullCrop(pendingCrops.peek(), harvestProvider)) {
+					return culled > 0;
+				}
+				pendingCrops.poll();
 			}
+			return true;
 		}
 
 		// Cultivation and collection
-		FarmWorkStatus farmWorkStatus = new FarmWorkStatus();
+		farmWorkStatus.reset();
+
+		boolean harvestSweep = false;
+		if (stage == Stage.HARVEST) {
+			harvestCycles++;
+			harvestSweep = harvestCycles % HARVEST_SWEEP_INTERVAL == 0;
+		}
 
-		List<FarmDirection> farmDirections = Arrays.asList(FarmDirection.values());
-		Collections.shuffle(farmDirections, worldObj.rand);
-		for (FarmDirection farmSide : farmDirections) {
+		FarmDirection[] farmSides = FARM_SIDE_ORDERS[worldObj.rand.nextInt(FARM_SIDE_ORDERS.length)];
+		for (FarmDirection farmSide : farmSides) {
 			IFarmLogic logic = getFarmLogic(farmSide);
 			if (logic == null) {
 				continue;
@@ -496,15 +591,15 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 			List<FarmTarget> farmTargets = targets.get(farmSide);
 
 			if (stage == Stage.HARVEST) {
-				Collection<ICrop> harvested = harvestTargets(worldObj, farmTargets, logic, farmListeners);
-				farmWorkStatus.didWork = !harvested.isEmpty();
-				if (!harvested.isEmpty()) {
-					pendingCrops.addAll(harvested);
-					Collections.sort(pendingCrops, TopDownICropComparator.INSTANCE);
+				boolean harvested = harvestTargets(worldObj, farmTargets, logic, farmListeners, harvestSweep, harvestedCrops);
+				farmWorkStatus.didWork = harvested;
+				if (harvested) {
+					pendingCrops.addAll(harvestedCrops);
+					harvestedCrops.clear();
 					harvestProvider = logic;
 				}
 			} else if (stage == Stage.CULTIVATE) {
-				farmWorkStatus = cultivateTargets(farmWorkStatus, farmTargets, logic);
+				cultivateTargets(farmWorkStatus, farmTargets, logic);
 			}
 
 			if (farmWorkStatus.didWork) {
@@ -524,6 +619,16 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 		return farmWorkStatus.didWork;
 	}
 
+	/**
+	 * Sets up the targets of all sides from scratch, e.g. because the farm changed its shape.
+	 */
+	private void invalidateTargets() {
+		staleTargets.addAll(EnumSet.allOf(FarmDirection.class));
+	}
+
+	/**
+	 * Sets up the targets of the sides whose bricks changed since they were last set up.
+	 */
 	private void setUpFarmlandTargets() {
 		BlockPos targetStart = getCoords();
 
@@ -536,55 +641,65 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 		// Set the maximum allowed extent.
 		allowedExtent = Math.max(sizeNorthSouth, sizeEastWest) * Config.farmSize + 1;
 
-		createTargets(worldObj, targets, targetStart, allowedExtent, sizeNorthSouth, sizeEastWest);
-		setExtents(worldObj, targets);
-	}
+		for (FarmDirection farmSide : staleTargets) {
+			List<FarmTarget> farmSideTargets = createTargets(worldObj, targetAreas, farmSide, targetStart, allowedExtent, sizeNorthSouth, sizeEastWest);
+			setExtents(worldObj, farmSideTargets);
+			targets.put(farmSide, farmSideTargets);
 
-	private static void createTargets(World world, Map<FarmDirection, List<FarmTarget>> targets, BlockPos targetStart, final int allowedExtent, final int farmSizeNorthSouth, final int farmSizeEastWest) {
+			if (!worldObj.isAreaLoaded(targetAreas.get(farmSide))) {
+				partiallyLoadedTargets.add(farmSide);
+			}
+		}
+		staleTargets.clear();
+	}
 
-		for (FarmDirection farmSide : FarmDirection.values()) {
+	private static List<FarmTarget> createTargets(World world, Map<FarmDirection, StructureBoundingBox> targetAreas, FarmDirection farmSide, BlockPos targetStart, final int allowedExtent, final int farmSizeNorthSouth, final int farmSizeEastWest) {
+		final int farmWidth;
+		if (farmSide == FarmDirection.NORTH || farmSide == FarmDirection.SOUTH) {
+			farmWidth = farmSizeEastWest;
+		} else {
+			farmWidth = farmSizeNorthSouth;
+		}
 
-			final int farmWidth;
-			if (farmSide == FarmDirection.NORTH || farmSide == FarmDirection.SOUTH) {
-				farmWidth = farmSizeEastWest;
-			} else {
-				farmWidth = farmSizeNorthSouth;
-			}
+		// targets extend sideways in a pinwheel pattern around the farm, so they need to go a little extra distance
+		final int targetMaxLimit = allowedExtent + farmWidth;
 
-			// targets extend sideways in a pinwheel pattern around the farm, so they need to go a little extra distance
-			final int targetMaxLimit = allowedExtent + farmWidth;
+		FarmDirection layoutDirection = getLayoutDirection(farmSide);
 
-			FarmDirection layoutDirection = getLayoutDirection(farmSide);
+		BlockPos targetLocation = FarmHelper.getFarmMultiblockCorner(world, targetStart, farmSide, layoutDirection);
+		BlockPos firstLocation = targetLocation.offset(farmSide.getFacing());
 
-			BlockPos targetLocation = FarmHelper.getFarmMultiblockCorner(world, targetStart, farmSide, layoutDirection);
-			BlockPos firstLocation = targetLocation.offset(farmSide.getFacing());
-			BlockPos firstGroundPosition = getGroundPosition(world, firstLocation);
-			if (firstGroundPosition == null) {
-				continue;
-			}
-			int groundHeight = firstGroundPosition.getY();
+		// every brick that can become part of this side's targets, including the ground position search range
+		BlockPos areaStart = firstLocation.down(3);
+		BlockPos areaEnd = targetLocation.offset(farmSide.getFacing(), allowedExtent).offset(layoutDirection.getFacing(), targetMaxLimit).up(2);
+		targetAreas.put(farmSide, new StructureBoundingBox(areaStart, areaEnd));
 
-			List<FarmTarget> farmSideTargets = new ArrayList<>();
-			for (int i = 0; i < allowedExtent; i++) {
-				targetLocation = targetLocation.offset(farmSide.getFacing());
-				BlockPos groundLocation = new BlockPos(targetLocation.getX(), groundHeight, targetLocation.getZ());
+		BlockPos firstGroundPosition = getGroundPosition(world, firstLocation);
+		if (firstGroundPosition == null) {
+			return Collections.emptyList();
+		}
+		int groundHeight = firstGroundPosition.getY();
 
-				int targetLimit = targetMaxLimit;
-				if (!Config.squareFarms) {
-					targetLimit = targetMaxLimit - i - 1;
-				}
+		List<FarmTarget> farmSideTargets = new ArrayList<>();
+		for (int i = 0; i < allowedExtent; i++) {
+			targetLocation = targetLocation.offset(farmSide.getFacing());
+			BlockPos groundLocation = new BlockPos(targetLocation.getX(), groundHeight, targetLocation.getZ());
 
-				IBlockState blockState = world.getBlockState(groundLocation);
-				if (!FarmHelper.bricks.contains(blockState.getBlock())) {
-					break;
-				}
+			int targetLimit = targetMaxLimit;
+			if (!Config.squareFarms) {
+				targetLimit = targetMaxLimit - i - 1;
+			}
 
-				FarmTarget target = new FarmTarget(targetLocation, layoutDirection, targetLimit);
-				farmSideTargets.add(target);
+			IBlockState blockState = world.getBlockState(groundLocation);
+			if (!FarmHelper.bricks.contains(blockState.getBlock())) {
+				break;
 			}
 
-			targets.put(farmSide, farmSideTargets);
+			FarmTarget target = new FarmTarget(targetLocation, layoutDirection, targetLimit);
+			farmSideTargets.add(target);
 		}
+
+		return farmSideTargets;
 	}
 
 	private static BlockPos getGroundPosition(World world, BlockPos targetPosition) {
@@ -607,15 +722,79 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 		return false;
 	}
 
-	private static void setExtents(World worldObj, Map<FarmDirection, List<FarmTarget>> targets) {
-		for (List<FarmTarget> targetsList : targets.values()) {
-			if (!targetsList.isEmpty()) {
-				BlockPos groundPosition = getGroundPosition(worldObj, targetsList.get(0).getStart());
+	private static void setExtents(World worldObj, List<FarmTarget> targetsList) {
+		if (!targetsList.isEmpty()) {
+			BlockPos groundPosition = getGroundPosition(worldObj, targetsList.get(0).getStart());
+
+			for (FarmTarget target : targetsList) {
+				target.setExtentAndYOffset(worldObj, groundPosition);
+			}
+		}
+	}
+
+	private void registerBlockListener() {
+		if (!worldObj.isRemote && !blockListenerRegistered) {
+			worldObj.addEventListener(blockListener);
+			blockListenerRegistered = true;
+		}
+	}
 
-				for (FarmTarget target : targetsList) {
-					target.setExtentAndYOffset(worldObj, groundPosition);
+	private void unregisterBlockListener() {
+		if (blockListenerRegistered) {
+			worldObj.removeEventListener(blockListener);
+			blockListenerRegistered = false;
+		}
+	}
+
+	/**
+	 * Marks the targets of a side as stale when a brick inside its target area is placed or removed,
+	 * and remembers where blocks above the targets changed, since crops may have grown there.
+	 */
+	private class FarmBlockListener extends WorldEventListenerAdapter {
+		@Override
+		public void notifyBlockUpdate(World world, BlockPos pos, IBlockState oldState, IBlockState newState, int flags) {
+			if (oldState.getBlock() != newState.getBlock() && (FarmHelper.bricks.contains(oldState.getBlock()) || FarmHelper.bricks.contains(newState.getBlock()))) {
+				for (Map.Entry<FarmDirection, StructureBoundingBox> entry : targetAreas.entrySet()) {
+					if (entry.getValue().isVecInside(pos)) {
+						staleTargets.add(entry.getKey());
+					}
 				}
 			}
+
+			for (Map.Entry<FarmDirection, List<FarmTarget>> entry : targets.entrySet()) {
+				markChangedPosition(entry.getKey(), entry.getValue(), pos);
+			}
+		}
+
+		/**
+		 * Targets of a side are lined up next to each other, so the column of a position gives the target and the offset on it.
+		 */
+		private void markChangedPosition(FarmDirection farmSide, List<FarmTarget> farmSideTargets, BlockPos pos) {
+			if (farmSideTargets.isEmpty()) {
+				return;
+			}
+
+			FarmTarget firstTarget = farmSideTargets.get(0);
+			BlockPos firstStart = firstTarget.getStart();
+			int dx = pos.getX() - firstStart.getX();
+			int dz = pos.getZ() - firstStart.getZ();
+
+			EnumFacing sideFacing = farmSide.getFacing();
+			int index = dx * sideFacing.getFrontOffsetX() + dz * sideFacing.getFrontOffsetZ();
+			if (index < 0 || index >= farmSideTargets.size()) {
+				return;
+			}
+
+			FarmTarget target = farmSideTargets.get(index);
+			if (pos.getY() < target.getStart().getY() + target.getYOffset()) {
+				return;
+			}
+
+			EnumFacing layoutFacing = target.getDirection().getFacing();
+			int offset = dx * layoutFacing.getFrontOffsetX() + dz * layoutFacing.getFrontOffsetZ();
+			if (offset >= 0 && offset < target.getExtent()) {
+				target.markChanged(offset);
+			}
 		}
 	}
 
@@ -624,14 +803,20 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 		public boolean hasFarmland = false;
 		public boolean hasFertilizer = false;
 		public boolean hasLiquid = false;
+
+		public void reset() {
+			didWork = false;
+			hasFarmland = false;
+			hasFertilizer = false;
+			hasLiquid = false;
+		}
 	}
 
-	private FarmWorkStatus cultivateTargets(FarmWorkStatus farmWorkStatus, List<FarmTarget> farmTargets, IFarmLogic logic) {
+	private void cultivateTargets(FarmWorkStatus farmWorkStatus, List<FarmTarget> farmTargets, IFarmLogic logic) {
 		float hydrationModifier = hydrationManager.getHydrationModifier();
 
 		final int fertilizerConsumption = logic.getFertilizerConsumption();
-		int liquidConsumption = logic.getWaterConsumption(hydrationModifier);
-		FluidStack liquid = new FluidStack(FluidRegistry.WATER, liquidConsumption);
+		FluidStack liquid = getRequiredWater(logic.getWaterConsumption(hydrationModifier));
 
 		if (farmTargets != null) {
 			for (FarmTarget target : farmTargets) {
@@ -662,8 +847,11 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 
 		farmWorkStatus.hasLiquid = liquid.amount <= 0 || hasLiquid(liquid);
 		farmWorkStatus.hasFertilizer = fertilizerManager.hasFertilizer(fertilizerConsumption);
+	}
 
-		return farmWorkStatus;
+	private FluidStack getRequiredWater(int amount) {
+		requiredWater.amount = amount;
+		return requiredWater;
 	}
 
 	private static boolean cultivateTarget(World world, IFarmHousing farmHousing, FarmTarget target, IFarmLogic logic, Iterable<IFarmListener> farmListeners) {
@@ -678,38 +866,81 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 		return false;
 	}
 
-	private static Collection<ICrop> harvestTargets(World world, List<FarmTarget> farmTargets, IFarmLogic logic, Iterable<IFarmListener> farmListeners) {
+	/**
+	 * @param harvested receives the crops of the first target which has any
+	 * @return true if crops were harvested
+	 */
+	private static boolean harvestTargets(World world, List<FarmTarget> farmTargets, IFarmLogic logic, Iterable<IFarmListener> farmListeners, boolean sweep, List<ICrop> harvested) {
 		if (farmTargets != null) {
 			for (FarmTarget target : farmTargets) {
-				Collection<ICrop> harvested = harvestTarget(world, target, logic, farmListeners);
-				if (!harvested.isEmpty()) {
-					return harvested;
+				boolean hasHarvested;
+				if (sweep || !(logic instanceof FarmLogic) || !((FarmLogic) logic).isRipeningSignalledByBlockUpdates()) {
+					hasHarvested = harvestTarget(world, target, logic, harvested);
+				} else {
+					hasHarvested = harvestChangedPositions(world, target, (FarmLogic) logic, harvested);
+				}
+
+				if (hasHarvested) {
+					// Let event handlers know.
+					BlockPos pos = target.getStart().add(0, target.getYOffset(), 0);
+					for (IFarmListener listener : farmListeners) {
+						listener.hasScheduledHarvest(harvested, logic, pos, target.getDirection(), target.getExtent());
+					}
+					return true;
 				}
 			}
 		}
 
-		return Collections.emptyList();
+		return false;
 	}
 
-	private static Collection<ICrop> harvestTarget(World world, FarmTarget target, IFarmLogic logic, Iterable<IFarmListener> farmListeners) {
+	private static boolean harvestTarget(World world, FarmTarget target, IFarmLogic logic, List<ICrop> harvested) {
 		BlockPos pos = target.getStart().add(0, target.getYOffset(), 0);
-		Collection<ICrop> harvested = logic.harvest(world, pos, target.getDirection(), target.getExtent());
-		if (harvested == null || harvested.isEmpty()) {
-			return Collections.emptyList();
+		Collection<ICrop> crops = logic.harvest(world, pos, target.getDirection(), target.getExtent());
+		if (crops == null || crops.isEmpty()) {
+			return false;
 		}
 
-		// Let event handlers know.
-		for (IFarmListener listener : farmListeners) {
-			listener.hasScheduledHarvest(harvested, logic, pos, target.getDirection(), target.getExtent());
+		harvested.addAll(crops);
+		return true;
+	}
+
+	/**
+	 * Only looks for crops where blocks changed since the last look, the rest of the target is left to the periodic sweep.
+	 */
+	private static boolean harvestChangedPositions(World world, FarmTarget target, FarmLogic logic, List<ICrop> harvested) {
+		BitSet changedOffsets = target.getChangedOffsets();
+		if (changedOffsets.isEmpty()) {
+			return false;
 		}
 
-		return harvested;
+		BlockPos pos = target.getStart().add(0, target.getYOffset(), 0);
+		int extent = target.getExtent();
+		for (int offset = changedOffsets.nextSetBit(0); offset >= 0 && offset < extent; offset = changedOffsets.nextSetBit(offset + 1)) {
+			changedOffsets.clear(offset);
+
+			if (logic.harvestAt(world, pos, target.getDirection(), offset, harvested)) {
+				return true;
+			}
+		}
+
+		// changes beyond the end of the target can not grow crops
+		changedOffsets.clear();
+		return false;
 	}
 
 	private boolean collectWindfall(IFarmLogic logic) {
-		Collection<ItemStack> collected = logic.collect(worldObj, this);
-		if (collected == null || collected.size() <= 0) {
-			return false;
+		List<ItemStack> collected = collectedProduce;
+		if (logic instanceof FarmLogic) {
+			if (!((FarmLogic) logic).collect(worldObj, this, collected)) {
+				return false;
+			}
+		} else {
+			Collection<ItemStack> products = logic.collect(worldObj, this);
+			if (products == null || products.isEmpty()) {
+				return false;
+			}
+			collected.addAll(products);
 		}
 
 		// Let event handlers know.
@@ -722,6 +953,7 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 			pendingProduce.push(produce);
 		}
 
+		collected.clear();
 		return true;
 	}
 
@@ -746,8 +978,7 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 
 		// Check water
 		float hydrationModifier = hydrationManager.getHydrationModifier();
-		int waterConsumption = provider.getWaterConsumption(hydrationModifier);
-		FluidStack requiredLiquid = new FluidStack(FluidRegistry.WATER, waterConsumption);
+		FluidStack requiredLiquid = getRequiredWater(provider.getWaterConsumption(hydrationModifier));
 		boolean hasLiquid = requiredLiquid.amount == 0 || hasLiquid(requiredLiquid);
 
 		if (errorLogic.setCondition(!hasLiquid, EnumErrorCode.NO_LIQUID_FARM)) {
@@ -10,6 +10,7 @@
  ******************************************************************************/
 package forestry.greenhouse;
 
+import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 
 import forestry.api.core.ICamouflageHandler;
@@ -17,6 +18,7 @@ import forestry.api.greenhouse.EnumGreenhouseEventType;
 import forestry.api.greenhouse.GreenhouseEvents.CamouflageChangeEvent;
 import forestry.api.multiblock.IGreenhouseComponent;
 import forestry.api.multiblock.IGreenhouseController;
+import forestry.greenhouse.multiblock.GreenhouseIndex;
 
 public class EventHandlerGreenhouse {
 	
@@ -39,4 +41,9 @@ public class EventHandlerGreenhouse {
 		}
 	}
 
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event) {
+		GreenhouseIndex.onWorldUnloaded(event.getWorld());
+	}
+
 }
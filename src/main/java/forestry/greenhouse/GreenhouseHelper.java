@@ -15,33 +15,18 @@ import net.minecraft.world.World;
 
 import forestry.api.greenhouse.IGreenhouseHelper;
 import forestry.api.greenhouse.IGreenhouseState;
-import forestry.api.greenhouse.IInternalBlock;
-import forestry.core.multiblock.IMultiblockControllerInternal;
-import forestry.core.multiblock.MultiblockRegistry;
+import forestry.greenhouse.multiblock.GreenhouseIndex;
 import forestry.greenhouse.multiblock.IGreenhouseControllerInternal;
-import forestry.greenhouse.multiblock.InternalBlockCheck;
 
 public class GreenhouseHelper implements IGreenhouseHelper {
 
 	@Override
 	public IGreenhouseState getGreenhouseState(World world, BlockPos pos) {
-		if (MultiblockRegistry.getControllersFromWorld(world) != null) {
-			for (IMultiblockControllerInternal controllerInternal : MultiblockRegistry.getControllersFromWorld(world)) {
-				if (controllerInternal instanceof IGreenhouseControllerInternal) {
-					if (controllerInternal.isAssembled()) {
-						if (isPositionInGreenhouse((IGreenhouseControllerInternal) controllerInternal, pos)) {
-							return ((IGreenhouseControllerInternal) controllerInternal).createState();
-						}
-					}
-				}
-			}
+		IGreenhouseControllerInternal controller = GreenhouseIndex.getController(world, pos);
+		if (controller == null) {
+			return null;
 		}
-		return null;
-	}
-	
-	private static boolean isPositionInGreenhouse(IGreenhouseControllerInternal controller, BlockPos pos) {
-		IInternalBlock checkBlock = new InternalBlockCheck(pos);
-		return controller.getInternalBlocks().contains(checkBlock);
+		return controller.getState();
 	}
 
 }
@@ -96,6 +96,12 @@ public class FakeGreenhouseController extends FakeMultiblockController implement
 	public IGreenhouseState createState() {
 		return FakeGreenhouseState.instance;
 	}
+
+	@Nonnull
+	@Override
+	public IGreenhouseState getState() {
+		return FakeGreenhouseState.instance;
+	}
 	
 	@Override
 	public Set<IInternalBlock> getInternalBlocks() {
@@ -11,6 +11,7 @@
 package forestry.greenhouse.multiblock;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
@@ -19,6 +20,9 @@ import java.util.List;
 import java.util.Set;
 import java.util.Stack;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.init.Blocks;
 import net.minecraft.item.ItemStack;
@@ -28,6 +32,7 @@ import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.biome.Biome;
+import net.minecraft.world.chunk.Chunk;
 
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.fluids.FluidRegistry;
@@ -48,6 +53,7 @@ import forestry.api.greenhouse.IInternalBlockFace;
 import forestry.api.multiblock.IGreenhouseComponent;
 import forestry.api.multiblock.IGreenhouseComponent.ButterflyHatch;
 import forestry.api.multiblock.IGreenhouseController;
+import forestry.api.multiblock.IMultiblockController;
 import forestry.api.multiblock.IMultiblockComponent;
 import forestry.core.access.EnumAccess;
 import forestry.core.config.Constants;
@@ -95,6 +101,18 @@ public class GreenhouseController extends RectangularMultiblockControllerBase im
 	private ItemStack camouflagePlainBlock;
 	private ItemStack camouflageGlassBlock;
 	private ItemStack camouflageDoorBlock;
+
+	// Positions of parts attached or detached since the last validation pass, and the bounds of the last valid pass
+	private final Set<BlockPos> changedPartPositions = new HashSet<>();
+	@Nullable
+	private BlockPos validatedMinimumCoord;
+	@Nullable
+	private BlockPos validatedMaximumCoord;
+
+	@Nullable
+	private IGreenhouseState cachedState;
+	private float cachedStateTempChange;
+	private float cachedStateHumidChange;
 	
 	public GreenhouseController(World world) {
 		super(world, GreenhouseMultiblockSizeLimits.instance);
@@ -371,6 +389,20 @@ public class GreenhouseController extends RectangularMultiblockControllerBase im
 	public IGreenhouseState createState() {
 		return new GreenhouseState(this);
 	}
+
+	@Nonnull
+	@Override
+	public IGreenhouseState getState() {
+		IGreenhouseState state = cachedState;
+		if (state == null || cachedStateTempChange != tempChange || cachedStateHumidChange != humidChange) {
+			// copies, so holders of the state never see the controller change it
+			state = new GreenhouseState(getExactHumidity(), getExactTemperature(), ImmutableSet.copyOf(internalBlocks), ImmutableList.copyOf(getComponents()));
+			cachedState = state;
+			cachedStateTempChange = tempChange;
+			cachedStateHumidChange = humidChange;
+		}
+		return state;
+	}
 	
 	@Override
 	public void onChange(EnumGreenhouseEventType type, Object event) {
@@ -440,11 +472,14 @@ public class GreenhouseController extends RectangularMultiblockControllerBase im
 		super.onMachineDisassembled();
 		
 		internalBlocks.clear();
+		cachedState = null;
+		validatedMinimumCoord = validatedMaximumCoord = null;
 		logics.clear();
 	}
 
 	@Override
 	protected void onBlockAdded(IMultiblockComponent newPart) {
+		changedPartPositions.add(newPart.getCoordinates());
 		if (newPart instanceof IGreenhouseComponent.Listener) {
 			listenerComponents.add((IGreenhouseComponent.Listener) newPart);
 		} else if (newPart instanceof IGreenhouseComponent.Climatiser) {
@@ -456,6 +491,7 @@ public class GreenhouseController extends RectangularMultiblockControllerBase im
 
 	@Override
 	protected void onBlockRemoved(IMultiblockComponent oldPart) {
+		changedPartPositions.add(oldPart.getCoordinates());
 		if (oldPart instanceof IGreenhouseComponent.Listener) {
 			listenerComponents.remove(oldPart);
 		} else if (oldPart instanceof IGreenhouseComponent.Climatiser) {
@@ -471,6 +507,24 @@ public class GreenhouseController extends RectangularMultiblockControllerBase im
 
 	@Override
 	public void onAssimilated(IMultiblockControllerInternal assimilator) {
+		GreenhouseIndex.remove(this);
+	}
+
+	@Override
+	public void checkIfMachineIsWhole() {
+		super.checkIfMachineIsWhole();
+
+		cachedState = null;
+		GreenhouseIndex.update(this);
+	}
+
+	@Override
+	public void detachBlock(IMultiblockComponent part, boolean chunkUnloading) {
+		super.detachBlock(part, chunkUnloading);
+
+		if (connectedParts.isEmpty()) {
+			GreenhouseIndex.remove(this);
+		}
 	}
 
 	@Override
@@ -569,17 +623,22 @@ public class GreenhouseController extends RectangularMultiblockControllerBase im
 			throw new MultiblockValidationException(Translator.translateToLocalFormatted("for.multiblock.greenhouse.error.space.closed", minX, minY, minZ));
 		}
 
-		// Now we run a simple check on each block within that volume.
+		// Now we run a simple check on each block of the floor and the walls.
 		// Any block deviating = NO DEAL SIR
 		TileEntity te;
 		IMultiblockComponent part;
 		boolean isNextRoof = false;
+		int roofY = maximumCoord.getY() + 1;
 		Class<? extends RectangularMultiblockControllerBase> myClass = this.getClass();
 		
 		height:
 		for (int y = minimumCoord.getY(); y <= maximumCoord.getY(); y++) {
+			boolean isFloor = y == minimumCoord.getY();
 			for (int x = minimumCoord.getX(); x <= maximumCoord.getX(); x++) {
-				for (int z = minimumCoord.getZ(); z <= maximumCoord.getZ(); z++) {
+				// above the floor, only the first and last block of a row are part of the walls
+				boolean isWallRow = isFloor || x == minimumCoord.getX() || x == maximumCoord.getX();
+				int zStep = isWallRow ? 1 : maximumCoord.getZ() - minimumCoord.getZ();
+				for (int z = minimumCoord.getZ(); z <= maximumCoord.getZ(); z += zStep) {
 					// Okay, figure out what sort of block this should be.
 					BlockPos pos = new BlockPos(x, y, z);
 					te = this.worldObj.getTileEntity(pos);
@@ -625,6 +684,7 @@ public class GreenhouseController extends RectangularMultiblockControllerBase im
 							if (delta + 1 >= minY) {
 								isNextRoof = true;
 							}
+							roofY = y;
 							break height;
 						}
 						
@@ -638,32 +698,40 @@ public class GreenhouseController extends RectangularMultiblockControllerBase im
 						} else {
 							isBlockGoodForExteriorLevel(exteriorLevel, this.worldObj, pos);
 						}
-					} else {
-						if (part != null) {
-							IBlockState state = worldObj.getBlockState(part.getCoordinates());
-							if (state.getBlock() instanceof BlockGreenhouse && ((BlockGreenhouse) state.getBlock()).getGreenhouseType() == BlockGreenhouseType.SPRINKLER || !myClass.equals(part.getMultiblockLogic().getController().getClass())) {
-								isGoodForInterior(part);
-							} else {
-								throw new MultiblockValidationException(Translator.translateToLocalFormatted("for.multiblock.error.invalid.part", Translator.translateToLocal(getUnlocalizedType())));
-							}
-						} else {
-							isBlockGoodForInterior(this.worldObj, pos);
-						}
 					}
 				}
 			}
 		}
-		internalBlocks.clear();
-		
+
+		isInteriorGood(minimumCoord, maximumCoord, roofY);
+
+		List<BlockPos> changedPositions = new ArrayList<>(changedPartPositions);
+		changedPartPositions.clear();
+		boolean canRevalidate = canRevalidateInternalBlocks(changedPositions, minimumCoord, maximumCoord);
+		validatedMinimumCoord = validatedMaximumCoord = null;
+		// the internal blocks are recomputed below
+		cachedState = null;
+
+		if (!canRevalidate) {
+			internalBlocks.clear();
+		}
+
 		if (isNextRoof) {
+			IGreenhouseState validationState = createState();
 			Stack<IInternalBlock> blocksToCheck = new Stack<>();
-			IInternalBlock internalBlock = createInternalBlock(new InternalBlock(getMinimumCoord().add(1, 1, 1)));
-			blocksToCheck.add(internalBlock);
+			if (canRevalidate) {
+				addChangedInternalBlocks(changedPositions, blocksToCheck, validationState);
+			} else {
+				IInternalBlock internalBlock = createInternalBlock(new InternalBlock(getMinimumCoord().add(1, 1, 1)), validationState);
+				blocksToCheck.add(internalBlock);
+			}
 			while (!blocksToCheck.isEmpty()) {
 				IInternalBlock blockToCheck = blocksToCheck.pop();
-				List<IInternalBlock> newBlocksToCheck = checkInternalBlock(blockToCheck);
+				List<IInternalBlock> newBlocksToCheck = checkInternalBlock(blockToCheck, validationState);
 				blocksToCheck.addAll(newBlocksToCheck);
 			}
+		} else {
+			internalBlocks.clear();
 		}
 
 		if (internalBlocks.isEmpty()) {
@@ -679,6 +747,89 @@ public class GreenhouseController extends RectangularMultiblockControllerBase im
 		if (hatches > 1) {
 			throw new MultiblockValidationException(Translator.translateToLocalFormatted("for.multiblock.greenhouse.error.butterflyhatch.toomany"));
 		}
+
+		validatedMinimumCoord = minimumCoord;
+		validatedMaximumCoord = maximumCoord;
+	}
+
+	/**
+	 * Interior blocks that are not parts are always fine, so only the tile entities below the roof need a check.
+	 * This includes parts of other greenhouses, which are not in {@link #connectedParts}.
+	 */
+	private void isInteriorGood(BlockPos minimumCoord, BlockPos maximumCoord, int roofY) throws MultiblockValidationException {
+		Class<? extends RectangularMultiblockControllerBase> myClass = this.getClass();
+		for (int chunkX = minimumCoord.getX() >> 4; chunkX <= maximumCoord.getX() >> 4; chunkX++) {
+			for (int chunkZ = minimumCoord.getZ() >> 4; chunkZ <= maximumCoord.getZ() >> 4; chunkZ++) {
+				Chunk chunk = worldObj.getChunkFromChunkCoords(chunkX, chunkZ);
+				for (TileEntity tile : chunk.getTileEntityMap().values()) {
+					if (!(tile instanceof IMultiblockComponent)) {
+						continue;
+					}
+					BlockPos partPos = tile.getPos();
+					if (partPos.getX() > minimumCoord.getX() && partPos.getX() < maximumCoord.getX() &&
+							partPos.getZ() > minimumCoord.getZ() && partPos.getZ() < maximumCoord.getZ() &&
+							partPos.getY() > minimumCoord.getY() && partPos.getY() < roofY) {
+						IMultiblockComponent part = (IMultiblockComponent) tile;
+						IBlockState state = worldObj.getBlockState(partPos);
+						IMultiblockController controller = part.getMultiblockLogic().getController();
+						if (state.getBlock() instanceof BlockGreenhouse && ((BlockGreenhouse) state.getBlock()).getGreenhouseType() == BlockGreenhouseType.SPRINKLER || controller == null || !myClass.equals(controller.getClass())) {
+							isGoodForInterior(part);
+						} else {
+							throw new MultiblockValidationException(Translator.translateToLocalFormatted("for.multiblock.error.invalid.part", Translator.translateToLocal(getUnlocalizedType())));
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * The internal blocks of the last pass can be kept when the bounds did not change and no part was placed inside.
+	 * Parts that were removed can only make the interior bigger, so the flood fill only has to continue from their positions.
+	 */
+	private boolean canRevalidateInternalBlocks(List<BlockPos> changedPositions, BlockPos minimumCoord, BlockPos maximumCoord) {
+		if (internalBlocks.isEmpty() || !minimumCoord.equals(validatedMinimumCoord) || !maximumCoord.equals(validatedMaximumCoord)) {
+			return false;
+		}
+
+		for (BlockPos pos : changedPositions) {
+			// a part was placed into the interior, which may split it
+			if (isConnectedPart(pos) && internalBlocks.contains(new InternalBlockCheck(pos))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void addChangedInternalBlocks(List<BlockPos> changedPositions, Stack<IInternalBlock> blocksToCheck, IGreenhouseState validationState) {
+		for (BlockPos pos : changedPositions) {
+			if (isConnectedPart(pos) || internalBlocks.contains(new InternalBlockCheck(pos))) {
+				continue;
+			}
+
+			IInternalBlock root = getAdjacentInternalBlock(pos);
+			if (root != null) {
+				EnumFacing rootFace = EnumFacing.getFacingFromVector(root.getPos().getX() - pos.getX(), root.getPos().getY() - pos.getY(), root.getPos().getZ() - pos.getZ());
+				blocksToCheck.add(createInternalBlock(new InternalBlock(pos, rootFace, root), validationState));
+			}
+		}
+	}
+
+	@Nullable
+	private IInternalBlock getAdjacentInternalBlock(BlockPos pos) {
+		for (IInternalBlock internalBlock : internalBlocks) {
+			BlockPos internalPos = internalBlock.getPos();
+			int distance = Math.abs(internalPos.getX() - pos.getX()) + Math.abs(internalPos.getY() - pos.getY()) + Math.abs(internalPos.getZ() - pos.getZ());
+			if (distance == 1) {
+				return internalBlock;
+			}
+		}
+		return null;
+	}
+
+	private boolean isConnectedPart(BlockPos pos) {
+		TileEntity tile = worldObj.getTileEntity(pos);
+		return tile instanceof IMultiblockComponent && connectedParts.contains(tile);
 	}
 
 	@Override
@@ -689,7 +840,7 @@ public class GreenhouseController extends RectangularMultiblockControllerBase im
 	 * Returns a list of more internal blocks to check.
 	 * @throws MultiblockValidationException
 	 */
-	private List<IInternalBlock> checkInternalBlock(IInternalBlock blockToCheck) throws MultiblockValidationException {
+	private List<IInternalBlock> checkInternalBlock(IInternalBlock blockToCheck, IGreenhouseState validationState) throws MultiblockValidationException {
 		List<IInternalBlock> newBlocksToCheck = new ArrayList<>();
 
 		internalBlocks.add(blockToCheck);
@@ -697,7 +848,7 @@ public class GreenhouseController extends RectangularMultiblockControllerBase im
 		
 		isBlockGoodForInterior(worldObj, posRoot);
 		for (IInternalBlockFace faceToCheck : blockToCheck.getFaces()) {
-			CheckInternalBlockFaceEvent checkEvent = new CheckInternalBlockFaceEvent(createState(), blockToCheck, faceToCheck);
+			CheckInternalBlockFaceEvent checkEvent = new CheckInternalBlockFaceEvent(validationState, blockToCheck, faceToCheck);
 			MinecraftForge.EVENT_BUS.post(checkEvent);
 			
 			if (!faceToCheck.isTested()) {
@@ -720,7 +871,7 @@ public class GreenhouseController extends RectangularMultiblockControllerBase im
 						faceToCheck.setTested(true);
 					}
 				} else {
-					IInternalBlock internalBlock = createInternalBlock(new InternalBlock(posFacing, face.getOpposite(), blockToCheck));
+					IInternalBlock internalBlock = createInternalBlock(new InternalBlock(posFacing, face.getOpposite(), blockToCheck), validationState);
 					
 					// Check is the internal block in the list
 					if (internalBlocks.contains(internalBlock)) {
@@ -734,8 +885,8 @@ public class GreenhouseController extends RectangularMultiblockControllerBase im
 		return newBlocksToCheck;
 	}
 	
-	private IInternalBlock createInternalBlock(IInternalBlock internalBlock) {
-		CreateInternalBlockEvent createEvent = new CreateInternalBlockEvent(createState(), internalBlock);
+	private IInternalBlock createInternalBlock(IInternalBlock internalBlock, IGreenhouseState validationState) {
+		CreateInternalBlockEvent createEvent = new CreateInternalBlockEvent(validationState, internalBlock);
 		
 		MinecraftForge.EVENT_BUS.post(createEvent);
 		
@@ -749,10 +900,10 @@ public class GreenhouseController extends RectangularMultiblockControllerBase im
 	}
 	
 	public static ButterflyHatch getGreenhouseButterflyHatch(World world, BlockPos pos) {
-		if (GreenhouseManager.greenhouseHelper.getGreenhouseState(world, pos) == null) {
+		IGreenhouseState state = GreenhouseManager.greenhouseHelper.getGreenhouseState(world, pos);
+		if (state == null) {
 			return null;
 		}
-		IGreenhouseState state = GreenhouseManager.greenhouseHelper.getGreenhouseState(world, pos);
 		for (IMultiblockComponent greenhouse : state.getGreenhouseComponents()) {
 			if (greenhouse instanceof ButterflyHatch) {
 				return (ButterflyHatch) greenhouse;
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.greenhouse.multiblock;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+import forestry.api.greenhouse.IInternalBlock;
+import forestry.core.multiblock.IMultiblockControllerInternal;
+import forestry.core.multiblock.MultiblockRegistry;
+
+/**
+ * Index from the internal blocks of assembled greenhouses to their controllers, one per world.
+ * Updated whenever a greenhouse recomputes its internal blocks, so climate lookups don't have to search every controller of the world.
+ */
+public class GreenhouseIndex {
+	private static final Map<World, GreenhouseIndex> indexes = new ConcurrentHashMap<>();
+
+	private final Map<Long, IGreenhouseControllerInternal> controllersByPos = new HashMap<>();
+	private final Map<IGreenhouseControllerInternal, long[]> positionsByController = new HashMap<>();
+
+	/**
+	 * @return The assembled greenhouse containing the position, or null if there is none.
+	 */
+	@Nullable
+	public static IGreenhouseControllerInternal getController(World world, BlockPos pos) {
+		GreenhouseIndex index = indexes.get(world);
+		if (index == null) {
+			return null;
+		}
+
+		IGreenhouseControllerInternal controller = index.controllersByPos.get(pos.toLong());
+		if (controller == null || !controller.isAssembled()) {
+			return null;
+		}
+
+		// dead controllers are dropped by the multiblock registry without being disassembled
+		Set<IMultiblockControllerInternal> controllers = MultiblockRegistry.getControllersFromWorld(world);
+		if (controllers == null || !controllers.contains(controller)) {
+			return null;
+		}
+		return controller;
+	}
+
+	/**
+	 * Re-indexes the internal blocks of the controller, or removes it from the index if it is not assembled.
+	 */
+	public static void update(IGreenhouseControllerInternal controller) {
+		World world = controller.getWorldObj();
+		if (world == null) {
+			return;
+		}
+
+		GreenhouseIndex index = indexes.get(world);
+		if (controller.isAssembled()) {
+			if (index == null) {
+				index = new GreenhouseIndex();
+				indexes.put(world, index);
+			}
+			index.removeController(controller);
+			index.addController(controller);
+		} else if (index != null) {
+			index.removeController(controller);
+		}
+	}
+
+	public static void remove(IGreenhouseControllerInternal controller) {
+		World world = controller.getWorldObj();
+		if (world == null) {
+			return;
+		}
+
+		GreenhouseIndex index = indexes.get(world);
+		if (index != null) {
+			index.removeController(controller);
+		}
+	}
+
+	public static void onWorldUnloaded(World world) {
+		indexes.remove(world);
+	}
+
+	private void addController(IGreenhouseControllerInternal controller) {
+		Set<IInternalBlock> internalBlocks = controller.getInternalBlocks();
+		long[] positions = new long[internalBlocks.size()];
+		int i = 0;
+		for (IInternalBlock internalBlock : internalBlocks) {
+			long pos = internalBlock.getPos().toLong();
+			positions[i++] = pos;
+			controllersByPos.put(pos, controller);
+		}
+		positionsByController.put(controller, positions);
+	}
+
+	private void removeController(IGreenhouseControllerInternal controller) {
+		long[] positions = positionsByController.remove(controller);
+		if (positions == null) {
+			return;
+		}
+
+		for (long pos : positions) {
+			// another greenhouse may have claimed the position in the meantime
+			if (controllersByPos.get(pos) == controller) {
+				controllersByPos.remove(pos);
+			}
+		}
+	}
+}
@@ -51,6 +51,12 @@ public interface IGreenhouseControllerInternal extends IGreenhouseController, IM
 	 */
 	@Nonnull
 	IGreenhouseState createState();
+
+	/**
+	 * @return A snapshot of the current state, cached until the climate or the internal blocks change.
+	 */
+	@Nonnull
+	IGreenhouseState getState();
 	
 	/**
 	 * @return All internal blocks of the greenhouse.
@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.lepidopterology;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+
+import forestry.core.utils.WorldEventListenerAdapter;
+import forestry.lepidopterology.entities.EntityButterfly;
+
+/**
+ * Butterflies of each world, kept up to date as entities join and leave the world.
+ * Replaces {@link World#countEntities(Class)} and {@link World#getEntitiesWithinAABB}, which walk the whole loaded entity list
+ * or every entity of the chunks in range.
+ * The butterflies are hashed into cells of 16x16x16 blocks, so nearby butterflies can be found without looking at any other entity.
+ */
+public class ButterflyPopulation extends WorldEventListenerAdapter {
+	private static final Map<World, ButterflyPopulation> populations = new ConcurrentHashMap<>();
+	private static final int CELL_SHIFT = 4;
+
+	private final Map<EntityButterfly, Long> cellsByButterfly = new HashMap<>();
+	private final Map<Long, List<EntityButterfly>> butterfliesByCell = new HashMap<>();
+
+	private ButterflyPopulation(World world) {
+		for (Entity entity : world.loadedEntityList) {
+			onEntityAdded(entity);
+		}
+	}
+
+	/**
+	 * @return The number of butterflies loaded in the world.
+	 */
+	public static int getCount(World world) {
+		return getPopulation(world).cellsByButterfly.size();
+	}
+
+	/**
+	 * Adds all butterflies whose bounding box intersects the box to the sink.
+	 */
+	public static void getButterflies(World world, AxisAlignedBB box, Collection<EntityButterfly> sink) {
+		ButterflyPopulation population = getPopulation(world);
+		int minX = MathHelper.floor_double(box.minX - World.MAX_ENTITY_RADIUS) >> CELL_SHIFT;
+		int minY = MathHelper.floor_double(box.minY - World.MAX_ENTITY_RADIUS) >> CELL_SHIFT;
+		int minZ = MathHelper.floor_double(box.minZ - World.MAX_ENTITY_RADIUS) >> CELL_SHIFT;
+		int maxX = MathHelper.floor_double(box.maxX + World.MAX_ENTITY_RADIUS) >> CELL_SHIFT;
+		int maxY = MathHelper.floor_double(box.maxY + World.MAX_ENTITY_RADIUS) >> CELL_SHIFT;
+		int maxZ = MathHelper.floor_double(box.maxZ + World.MAX_ENTITY_RADIUS) >> CELL_SHIFT;
+
+		for (int x = minX; x <= maxX; x++) {
+			for (int y = minY; y <= maxY; y++) {
+				for (int z = minZ; z <= maxZ; z++) {
+					List<EntityButterfly> butterflies = population.butterfliesByCell.get(getCellKey(x, y, z));
+					if (butterflies == null) {
+						continue;
+					}
+					for (EntityButterfly butterfly : butterflies) {
+						if (butterfly.getEntityBoundingBox().intersectsWith(box)) {
+							sink.add(butterfly);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Moves the butterfly to the cell of its current position if it left its cell, called on every update.
+	 * Compares cells rather than movement, so positions set outside of the update are picked up too.
+	 */
+	public static void updateCell(EntityButterfly butterfly) {
+		ButterflyPopulation population = populations.get(butterfly.worldObj);
+		if (population == null) {
+			return;
+		}
+
+		Long oldCell = population.cellsByButterfly.get(butterfly);
+		if (oldCell == null) {
+			return;
+		}
+
+		long cell = getCellKey(butterfly);
+		if (oldCell != cell) {
+			population.removeFromCell(butterfly, oldCell);
+			population.addToCell(butterfly, cell);
+		}
+	}
+
+	private static long getCellKey(EntityButterfly butterfly) {
+		int x = MathHelper.floor_double(butterfly.posX) >> CELL_SHIFT;
+		int y = MathHelper.floor_double(butterfly.posY) >> CELL_SHIFT;
+		int z = MathHelper.floor_double(butterfly.posZ) >> CELL_SHIFT;
+		return getCellKey(x, y, z);
+	}
+
+	private static long getCellKey(int x, int y, int z) {
+		return ((long) x & 0x3FFFFFF) << 38 | ((long) y & 0xFFF) << 26 | (long) z & 0x3FFFFFF;
+	}
+
+	private void addToCell(EntityButterfly butterfly, long cell) {
+		List<EntityButterfly> butterflies = butterfliesByCell.get(cell);
+		if (butterflies == null) {
+			butterflies = new ArrayList<>();
+			butterfliesByCell.put(cell, butterflies);
+		}
+		butterflies.add(butterfly);
+		cellsByButterfly.put(butterfly, cell);
+	}
+
+	private void removeFromCell(EntityButterfly butterfly, long cell) {
+		List<EntityButterfly> butterflies = butterfliesByCell.get(cell);
+		if (butterflies != null) {
+			butterflies.remove(butterfly);
+			if (butterflies.isEmpty()) {
+				butterfliesByCell.remove(cell);
+			}
+		}
+	}
+
+	private static ButterflyPopulation getPopulation(World world) {
+		ButterflyPopulation population = populations.get(world);
+		if (population == null) {
+			// the entities loaded so far are counted once, later ones are tracked by the listener
+			population = new ButterflyPopulation(world);
+			populations.put(world, population);
+			world.addEventListener(population);
+		}
+		return population;
+	}
+
+	public static void onWorldUnloaded(World world) {
+		ButterflyPopulation population = populations.remove(world);
+		if (population != null) {
+			world.removeEventListener(population);
+		}
+	}
+
+	@Override
+	public void onEntityAdded(Entity entity) {
+		if (entity instanceof EntityButterfly && !cellsByButterfly.containsKey(entity)) {
+			EntityButterfly butterfly = (EntityButterfly) entity;
+			addToCell(butterfly, getCellKey(butterfly));
+		}
+	}
+
+	@Override
+	public void onEntityRemoved(Entity entity) {
+		if (entity instanceof EntityButterfly) {
+			Long cell = cellsByButterfly.remove(entity);
+			if (cell != null) {
+				removeFromCell((EntityButterfly) entity, cell);
+			}
+		}
+	}
+}
@@ -20,7 +20,6 @@ import forestry.api.arboriculture.ITree;
 import forestry.api.lepidopterology.ButterflyManager;
 import forestry.api.lepidopterology.IButterfly;
 import forestry.core.utils.Log;
-import forestry.lepidopterology.entities.EntityButterfly;
 
 public class ButterflySpawner implements ILeafTickHandler {
 
@@ -43,7 +42,7 @@ public class ButterflySpawner implements ILeafTickHandler {
 			return false;
 		}
 		
-		if (world.countEntities(EntityButterfly.class) > PluginLepidopterology.spawnConstraint) {
+		if (ButterflyPopulation.getCount(world) > PluginLepidopterology.spawnConstraint) {
 			return false;
 		}
 		
@@ -29,8 +29,11 @@ import net.minecraft.item.crafting.CraftingManager;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.IChunkGenerator;
 
+import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.config.Property;
+import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.fml.common.SidedProxy;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.registry.GameRegistry;
 import net.minecraftforge.oredict.OreDictionary;
 import net.minecraftforge.oredict.RecipeSorter;
@@ -79,6 +82,12 @@ public class PluginLepidopterology extends BlankForestryPlugin {
 	public static int spawnConstraint = 100;
 	public static int entityConstraint = 1000;
 	private static boolean allowPollination = true;
+	/**
+	 * Butterflies run their resting, pollination and mating checks on every n-th AI pass, with a phase of their own.
+	 * The default of 4 spreads the checks of a swarm over four passes, so a butterfly may take up to three passes longer
+	 * to notice a place to rest, a flower or a mate. 1 checks on every pass like before.
+	 */
+	private static int aiCheckInterval = 4;
 	public static final Map<String, Float> spawnRaritys = Maps.newHashMap();
 	private static boolean spawnButterflysFromLeaves = true;
 	private static boolean generateCocoons = false;
@@ -111,6 +120,8 @@ public class PluginLepidopterology extends BlankForestryPlugin {
 		
 		GameRegistry.registerTileEntity(TileCocoon.class, "forestry.Cocoon");
 		proxy.preInitializeRendering();
+
+		MinecraftForge.EVENT_BUS.register(this);
 	}
 
 	@Nonnull
@@ -146,6 +157,11 @@ public class PluginLepidopterology extends BlankForestryPlugin {
 		loadConfig(configFile);
 	}
 
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event) {
+		ButterflyPopulation.onWorldUnloaded(event.getWorld());
+	}
+
 	@Override
 	public void populateChunk(IChunkGenerator chunkGenerator, World world, Random rand, int chunkX, int chunkZ, boolean hasVillageGenerated) {
 		if(generateCocoons){
@@ -171,6 +187,7 @@ public class PluginLepidopterology extends BlankForestryPlugin {
 		entityConstraint = config.getIntLocalized("butterfly.entities", "maximum", entityConstraint, 0, 5000);
 		allowPollination = config.getBooleanLocalized("butterfly.entities", "pollination", allowPollination);
 		spawnButterflysFromLeaves = config.getBooleanLocalized("butterfly.entities", "spawn.leaves", spawnButterflysFromLeaves);
+		aiCheckInterval = config.getIntLocalized("butterfly.entities", "ai.check.interval", aiCheckInterval, 1, 20);
 		
 		generateCocoons = config.getBooleanLocalized("butterfly.cocoons", "generate", generateCocoons);
 		generateCocoonsAmount = config.getFloatLocalized("butterfly.cocoons", "generate.amount", generateCocoonsAmount, 0.0f, 10.0f);
@@ -278,6 +295,10 @@ public class PluginLepidopterology extends BlankForestryPlugin {
 	public static boolean isPollinationAllowed() {
 		return allowPollination;
 	}
+
+	public static int getAICheckInterval() {
+		return aiCheckInterval;
+	}
 	
 	public static boolean isSpawnButterflysFromLeaves() {
 		return spawnButterflysFromLeaves;
@@ -20,11 +20,31 @@ import net.minecraft.util.math.Vec3d;
 public abstract class AIButterflyBase extends EntityAIBase {
 
 	protected final EntityButterfly entity;
+	private int checkCountdown = -1;
 
 	protected AIButterflyBase(EntityButterfly entity) {
 		this.entity = entity;
 	}
 
+	/**
+	 * Returns true on every interval-th call. The first call is offset by the entity id,
+	 * so the expensive checks of a large swarm are spread evenly over the interval instead of running on the same tick.
+	 */
+	protected boolean isCheckScheduled(int interval) {
+		if (interval <= 1) {
+			return true;
+		}
+		if (checkCountdown < 0) {
+			checkCountdown = entity.getEntityId() % interval;
+		}
+		if (checkCountdown > 0) {
+			checkCountdown--;
+			return false;
+		}
+		checkCountdown = interval - 1;
+		return true;
+	}
+
 	protected Vec3d getRandomDestination() {
 		if (entity.isInWater()) {
 			return getRandomDestinationUpwards();
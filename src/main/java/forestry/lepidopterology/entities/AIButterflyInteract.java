@@ -12,6 +12,8 @@ package forestry.lepidopterology.entities;
 
 import net.minecraft.util.math.BlockPos;
 
+import forestry.lepidopterology.PluginLepidopterology;
+
 public abstract class AIButterflyInteract extends AIButterflyBase {
 
 	protected BlockPos rest;
@@ -30,6 +32,10 @@ public abstract class AIButterflyInteract extends AIButterflyBase {
 			return false;
 		}
 
+		if (!isCheckScheduled(PluginLepidopterology.getAICheckInterval())) {
+			return false;
+		}
+
 		rest = new BlockPos((int) entity.posX, (int) Math.floor(entity.posY) - 1, (int) entity.posZ);
 		if (entity.worldObj.isAirBlock(rest)) {
 			return false;
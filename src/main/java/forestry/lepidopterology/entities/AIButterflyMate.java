@@ -10,14 +10,17 @@
  ******************************************************************************/
 package forestry.lepidopterology.entities;
 
+import java.util.ArrayList;
 import java.util.List;
 import forestry.api.genetics.IPollinatable;
 import forestry.api.lepidopterology.IButterflyNursery;
 import forestry.core.utils.GeneticsUtil;
+import forestry.lepidopterology.ButterflyPopulation;
 import forestry.lepidopterology.PluginLepidopterology;
 
 public class AIButterflyMate extends AIButterflyInteract {
 
+    private final List<EntityButterfly> nearbyButterflies = new ArrayList<>();
     private EntityButterfly targetMate;
     private double moveSpeed;
 
@@ -39,7 +42,7 @@ public class AIButterflyMate extends AIButterflyInteract {
 			return false;
 		}
 
-		if (entity.worldObj.countEntities(EntityButterfly.class) > PluginLepidopterology.spawnConstraint) {
+		if (ButterflyPopulation.getCount(entity.worldObj) > PluginLepidopterology.spawnConstraint) {
 			return false;
 		}
 
@@ -109,16 +112,17 @@ public class AIButterflyMate extends AIButterflyInteract {
 
     private EntityButterfly getNearbyMate(){
         float f = 8.0F;
-        List<EntityButterfly> nextButterflys = entity.worldObj.getEntitiesWithinAABB(EntityButterfly.class, this.entity.getEntityBoundingBox().expand(f, f, f));
+        ButterflyPopulation.getButterflies(entity.worldObj, this.entity.getEntityBoundingBox().expand(f, f, f), nearbyButterflies);
         double d0 = Double.MAX_VALUE;
         EntityButterfly nextButterfly = null;
 
-        for (EntityButterfly butterfly : nextButterflys){
+        for (EntityButterfly butterfly : nearbyButterflies){
             if (this.entity.canMateWith(butterfly) && this.entity.getDistanceSqToEntity(butterfly) < d0){
                 nextButterfly = butterfly;
                 d0 = this.entity.getDistanceSqToEntity(butterfly);
             }
         }
+        nearbyButterflies.clear();
 
         return nextButterfly;
     }
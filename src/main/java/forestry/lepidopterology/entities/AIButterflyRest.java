@@ -21,6 +21,8 @@ import net.minecraft.util.math.BlockPos;
 
 import net.minecraftforge.common.IPlantable;
 
+import forestry.lepidopterology.PluginLepidopterology;
+
 public class AIButterflyRest extends AIButterflyBase {
 
 	public AIButterflyRest(EntityButterfly entity) {
@@ -36,6 +38,10 @@ public class AIButterflyRest extends AIButterflyBase {
 			return false;
 		}
 
+		if (!isCheckScheduled(PluginLepidopterology.getAICheckInterval())) {
+			return false;
+		}
+
 		int x = (int) entity.posX;
 		int y = (int) Math.floor(entity.posY);
 		int z = (int) entity.posZ;
@@ -59,6 +59,7 @@ import forestry.api.lepidopterology.IButterflyRoot;
 import forestry.api.lepidopterology.IEntityButterfly;
 import forestry.api.lepidopterology.ILepidopteristTracker;
 import forestry.core.utils.ItemStackUtil;
+import forestry.lepidopterology.ButterflyPopulation;
 import forestry.lepidopterology.genetics.Butterfly;
 
 public class EntityButterfly extends EntityCreature implements IEntityButterfly {
@@ -424,6 +425,8 @@ public class EntityButterfly extends EntityCreature implements IEntityButterfly
 	public void onUpdate() {
 		super.onUpdate();
 
+		ButterflyPopulation.updateCell(this);
+
 		// Update stuff client side
 		if (worldObj.isRemote) {
 			if (species == null) {
@@ -48,6 +48,7 @@ import forestry.api.lepidopterology.IButterflyMutation;
 import forestry.api.lepidopterology.IButterflyNursery;
 import forestry.api.lepidopterology.IEntityButterfly;
 import forestry.core.genetics.Chromosome;
+import forestry.core.genetics.Genome;
 import forestry.core.genetics.GenericRatings;
 import forestry.core.genetics.IndividualLiving;
 import forestry.core.utils.Translator;
@@ -197,9 +198,9 @@ public class Butterfly extends IndividualLiving implements IButterfly {
 			return null;
 		}
 
-		IChromosome[] chromosomes = new IChromosome[genome.getChromosomes().length];
 		IChromosome[] parent1 = genome.getChromosomes();
 		IChromosome[] parent2 = mate.getChromosomes();
+		IChromosome[] chromosomes = new IChromosome[parent1.length];
 
 		// Check for mutation. Replace one of the parents with the mutation
 		// template if mutation occured.
@@ -223,8 +224,8 @@ public class Butterfly extends IndividualLiving implements IButterfly {
 
 	private static IChromosome[] mutateSpecies(World world, IButterflyNursery nursery, IGenome genomeOne, IGenome genomeTwo) {
 
-		IChromosome[] parent1 = genomeOne.getChromosomes();
-		IChromosome[] parent2 = genomeTwo.getChromosomes();
+		IChromosome species1 = Genome.getChromosome(genomeOne, EnumButterflyChromosome.SPECIES.ordinal());
+		IChromosome species2 = Genome.getChromosome(genomeTwo, EnumButterflyChromosome.SPECIES.ordinal());
 
 		IGenome genome0;
 		IGenome genome1;
@@ -232,14 +233,14 @@ public class Butterfly extends IndividualLiving implements IButterfly {
 		IAllele allele1;
 
 		if (rand.nextBoolean()) {
-			allele0 = parent1[EnumButterflyChromosome.SPECIES.ordinal()].getPrimaryAllele();
-			allele1 = parent2[EnumButterflyChromosome.SPECIES.ordinal()].getSecondaryAllele();
+			allele0 = species1.getPrimaryAllele();
+			allele1 = species2.getSecondaryAllele();
 
 			genome0 = genomeOne;
 			genome1 = genomeTwo;
 		} else {
-			allele0 = parent2[EnumButterflyChromosome.SPECIES.ordinal()].getPrimaryAllele();
-			allele1 = parent1[EnumButterflyChromosome.SPECIES.ordinal()].getSecondaryAllele();
+			allele0 = species2.getPrimaryAllele();
+			allele1 = species1.getSecondaryAllele();
 
 			genome0 = genomeTwo;
 			genome1 = genomeOne;
@@ -38,7 +38,6 @@ import forestry.core.access.IOwnable;
 import forestry.core.network.DataInputStreamForestry;
 import forestry.core.network.DataOutputStreamForestry;
 import forestry.core.network.IStreamable;
-import forestry.core.network.packets.PacketTileStream;
 import forestry.core.proxy.Proxies;
 import forestry.core.utils.ItemStackUtil;
 import forestry.core.utils.Log;
@@ -267,7 +266,7 @@ public class TileCocoon extends TileEntity implements IStreamable, IOwnable, IBu
 	}
 
 	private void sendNetworkUpdate() {
-		Proxies.net.sendNetworkPacket(new PacketTileStream(this), worldObj);
+		Proxies.net.sendTileUpdate(this);
 	}
 	
 	public int getAge() {
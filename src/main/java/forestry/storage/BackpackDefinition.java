@@ -12,8 +12,11 @@ package forestry.storage;
 
 import javax.annotation.Nonnull;
 import java.awt.Color;
+import java.util.BitSet;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import net.minecraft.item.Item;
@@ -36,6 +39,11 @@ public class BackpackDefinition implements IBackpackDefinition {
 	private final Set<String> validItemStacks = new HashSet<>();
 	private final Set<Integer> validOreIds = new HashSet<>();
 
+	/**
+	 * Results of {@link #test(ItemStack)} by item and meta, computed on first use and cleared when the valid items change.
+	 */
+	private final Map<Item, MetaFilter> filterCache = new IdentityHashMap<>();
+
 	public BackpackDefinition(@Nonnull Color primaryColor) {
 		this(primaryColor, new Color(0xffffff));
 	}
@@ -84,12 +92,20 @@ public class BackpackDefinition implements IBackpackDefinition {
 		String itemStackString = ItemStackUtil.getStringForItemStack(validItem);
 		if (itemStackString != null) {
 			this.validItemStacks.add(itemStackString);
+			clearFilterCache();
 		}
 	}
 
 	public void clearAllValid() {
 		validItemStacks.clear();
 		validOreIds.clear();
+		clearFilterCache();
+	}
+
+	private void clearFilterCache() {
+		synchronized (filterCache) {
+			filterCache.clear();
+		}
 	}
 
 	@Override
@@ -104,6 +120,7 @@ public class BackpackDefinition implements IBackpackDefinition {
 		if (OreDictionary.doesOreNameExist(oreDictName)) {
 			int oreId = OreDictionary.getOreID(oreDictName);
 			validOreIds.add(oreId);
+			clearFilterCache();
 		}
 	}
 
@@ -124,6 +141,30 @@ public class BackpackDefinition implements IBackpackDefinition {
 			return false;
 		}
 
+		int meta = itemStack.getItemDamage();
+		if (meta < 0 || meta >= MetaFilter.MAX_META) {
+			return testUncached(itemStack, item);
+		}
+
+		synchronized (filterCache) {
+			MetaFilter filter = filterCache.get(item);
+			if (filter == null) {
+				filter = new MetaFilter();
+				filterCache.put(item, filter);
+			}
+
+			if (filter.tested.get(meta)) {
+				return filter.accepted.get(meta);
+			}
+
+			boolean accepted = testUncached(itemStack, item);
+			filter.tested.set(meta);
+			filter.accepted.set(meta, accepted);
+			return accepted;
+		}
+	}
+
+	private boolean testUncached(ItemStack itemStack, Item item) {
 		String itemStackStringWild = ItemStackUtil.getItemNameFromRegistryAsString(item);
 		if (validItemStacks.contains(itemStackStringWild)) {
 			return true;
@@ -140,7 +181,6 @@ public class BackpackDefinition implements IBackpackDefinition {
 		int[] oreIds = OreDictionary.getOreIDs(itemStack);
 		for (int oreId : oreIds) {
 			if (validOreIds.contains(oreId)) {
-				validItemStacks.add(itemStackStringWild);
 				return true;
 			}
 		}
@@ -148,6 +188,13 @@ public class BackpackDefinition implements IBackpackDefinition {
 		return false;
 	}
 
+	private static class MetaFilter {
+		private static final int MAX_META = 4096;
+
+		private final BitSet tested = new BitSet();
+		private final BitSet accepted = new BitSet();
+	}
+
 	public static class BackpackDefinitionNaturalist extends BackpackDefinition {
 		@Nonnull
 		private final String speciesRootUid;
@@ -10,50 +10,97 @@
  ******************************************************************************/
 package forestry.storage;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.InventoryPlayer;
 import net.minecraft.inventory.ContainerPlayer;
 import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
 
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.fml.common.eventhandler.Event;
 
 import forestry.api.storage.BackpackResupplyEvent;
 import forestry.core.IResupplyHandler;
+import forestry.core.config.Config;
 import forestry.core.inventory.ItemInventory;
+import forestry.core.utils.Log;
 import forestry.storage.inventory.ItemInventoryBackpack;
 import forestry.storage.items.ItemBackpack;
 
+/**
+ * Resupplies players from backpacks in resupply mode.
+ * A player is only checked again when their inventory changed since the last pass, or when
+ * {@link Config#backpackResupplyInterval} ticks have passed while they carry a resupply backpack.
+ */
 public class ResupplyHandler implements IResupplyHandler {
 
-	private static List<ItemStack> backpacks(InventoryPlayer playerInventory) {
-		List<ItemStack> backpacks = new ArrayList<>();
-		for (ItemStack itemStack : playerInventory.mainInventory) {
-			if (itemStack != null && itemStack.stackSize > 0 && itemStack.getItem() instanceof ItemBackpack) {
-				backpacks.add(itemStack);
-			}
-		}
-		return backpacks;
-	}
+	/**
+	 * Ticks between debug log lines reporting the resupply passes.
+	 */
+	private static final int REPORT_INTERVAL = 6000;
+
+	private final Map<EntityPlayer, ResupplyState> resupplyStates = new WeakHashMap<>();
+	private long resupplyPasses;
+	private long skippedResupplyPasses;
+	private long lastReportTime;
 
 	@Override
 	public void resupply(EntityPlayer player) {
 
 		// Do not attempt resupplying if this backpack is already opened.
 		if (!(player.openContainer instanceof ContainerPlayer)) {
+			// backpacks may be edited while the container is open, forget their contents
+			ResupplyState state = resupplyStates.get(player);
+			if (state != null) {
+				state.invalidate();
+			}
 			return;
 		}
 
-		for (ItemStack backpack : backpacks(player.inventory)) {
+		ResupplyState state = resupplyStates.get(player);
+		if (state == null) {
+			state = new ResupplyState();
+			resupplyStates.put(player, state);
+		}
+
+		long worldTime = player.worldObj.getTotalWorldTime();
+		if (worldTime - lastReportTime >= REPORT_INTERVAL) {
+			lastReportTime = worldTime;
+			Log.debug("Backpack resupply: {} passes run, {} passes skipped.", resupplyPasses, skippedResupplyPasses);
+		}
+
+		int inventoryHash = getInventoryHash(player.inventory);
+		if (state.valid && state.inventoryHash == inventoryHash) {
+			if (!state.hasResupplyBackpacks || worldTime - state.lastResupplyTime < Config.backpackResupplyInterval) {
+				skippedResupplyPasses++;
+				return;
+			}
+		}
+
+		state.valid = true;
+		state.inventoryHash = inventoryHash;
+		state.lastResupplyTime = worldTime;
+		state.hasResupplyBackpacks = false;
+		resupplyPasses++;
+
+		Map<ItemStack, CachedBackpackInventory> backpackInventories = new IdentityHashMap<>();
+
+		for (ItemStack backpack : player.inventory.mainInventory) {
+			if (backpack == null || backpack.stackSize <= 0 || !(backpack.getItem() instanceof ItemBackpack)) {
+				continue;
+			}
 
 			// Only handle those in resupply mode
 			if (ItemBackpack.getMode(backpack) != BackpackMode.RESUPPLY) {
 				continue;
 			}
 
+			state.hasResupplyBackpacks = true;
+
 			// Delay before resupplying
 			if (backpack.getItemDamage() < 40) {
 				backpack.setItemDamage(backpack.getItemDamage() + 1);
@@ -62,11 +109,18 @@ public class ResupplyHandler implements IResupplyHandler {
 
 			// Load their inventory
 			ItemBackpack backpackItem = (ItemBackpack) backpack.getItem();
-			ItemInventory backpackInventory = new ItemInventoryBackpack(player, backpackItem.getBackpackSize(), backpack);
+			CachedBackpackInventory cachedInventory = state.backpackInventories.get(backpack);
+			if (cachedInventory == null || !cachedInventory.isValid(backpack)) {
+				cachedInventory = new CachedBackpackInventory(new ItemInventoryBackpack(player, backpackItem.getBackpackSize(), backpack));
+			}
+			backpackInventories.put(backpack, cachedInventory);
+			ItemInventory backpackInventory = cachedInventory.inventory;
 
 			Event event = new BackpackResupplyEvent(player, backpackItem.getDefinition(), backpackInventory);
 			MinecraftForge.EVENT_BUS.post(event);
 			if (event.isCanceled()) {
+				// event handlers may have changed the contents
+				backpackInventories.remove(backpack);
 				continue;
 			}
 
@@ -85,7 +139,40 @@ public class ResupplyHandler implements IResupplyHandler {
 					backpackInventory.setInventorySlotContents(i, itemStack);
 				}
 			}
+
+			cachedInventory.update(backpack);
+		}
+
+		state.backpackInventories = backpackInventories;
+	}
+
+	/**
+	 * @return the number of resupply passes that ran through the player's backpacks.
+	 */
+	public long getResupplyPasses() {
+		return resupplyPasses;
+	}
+
+	/**
+	 * @return the number of resupply passes that were skipped because the player's inventory had not changed.
+	 */
+	public long getSkippedResupplyPasses() {
+		return skippedResupplyPasses;
+	}
+
+	private static int getInventoryHash(InventoryPlayer inventory) {
+		int hash = 1;
+		for (int i = 0; i < inventory.getSizeInventory(); i++) {
+			ItemStack itemStack = inventory.getStackInSlot(i);
+			if (itemStack == null) {
+				hash = 31 * hash;
+			} else {
+				hash = 31 * hash + System.identityHashCode(itemStack.getItem());
+				hash = 31 * hash + itemStack.stackSize;
+				hash = 31 * hash + itemStack.getItemDamage();
+			}
 		}
+		return hash;
 	}
 
 	/**
@@ -117,4 +204,40 @@ public class ResupplyHandler implements IResupplyHandler {
 
 	}
 
+	private static class ResupplyState {
+		private boolean valid;
+		private int inventoryHash;
+		private long lastResupplyTime;
+		private boolean hasResupplyBackpacks;
+		private Map<ItemStack, CachedBackpackInventory> backpackInventories = new IdentityHashMap<>();
+
+		public void invalidate() {
+			valid = false;
+			backpackInventories.clear();
+		}
+	}
+
+	/**
+	 * A deserialized backpack inventory, reused while the contents stored in the backpack's NBT are unchanged.
+	 */
+	private static class CachedBackpackInventory {
+		private final ItemInventory inventory;
+		private NBTTagCompound slotsNbt;
+		private int slotsHash;
+
+		public CachedBackpackInventory(ItemInventory inventory) {
+			this.inventory = inventory;
+		}
+
+		public void update(ItemStack backpack) {
+			slotsNbt = ItemInventory.getSlotsNbt(backpack);
+			slotsHash = slotsNbt == null ? 0 : slotsNbt.hashCode();
+		}
+
+		public boolean isValid(ItemStack backpack) {
+			NBTTagCompound currentSlotsNbt = ItemInventory.getSlotsNbt(backpack);
+			return currentSlotsNbt == slotsNbt && (currentSlotsNbt == null || currentSlotsNbt.hashCode() == slotsHash);
+		}
+	}
+
 }